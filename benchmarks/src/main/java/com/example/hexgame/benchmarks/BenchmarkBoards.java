@@ -0,0 +1,59 @@
+package com.example.hexgame.benchmarks;
+
+import com.example.hexgame.algorithms.AStarStrategy;
+import com.example.hexgame.algorithms.BFSStrategy;
+import com.example.hexgame.algorithms.BidirectionalBFSStrategy;
+import com.example.hexgame.algorithms.DFSStrategy;
+import com.example.hexgame.algorithms.DijkstraStrategy;
+import com.example.hexgame.algorithms.HierarchicalStrategy;
+import com.example.hexgame.algorithms.IncrementalPathfindingStrategy;
+import com.example.hexgame.algorithms.ParallelBFSStrategy;
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.algorithms.WeightedAStarStrategy;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.model.Tile;
+
+import java.util.SplittableRandom;
+
+final class BenchmarkBoards {
+
+    private BenchmarkBoards() {
+    }
+
+    /** Square board with the cat in the middle and {@code density} of the other cells blocked. */
+    static HexBoard randomBoard(int size, double density, long seed) {
+        HexBoard board = new HexBoard(size, size);
+        SplittableRandom rand = new SplittableRandom(seed);
+        int cat = board.index(size / 2, size / 2);
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (cell != cat && rand.nextDouble() < density) board.setBlocked(cell, true);
+        }
+        board.setCat(cat);
+        return board;
+    }
+
+    static Tile[][] tilesFor(HexBoard board) {
+        Tile[][] grid = new Tile[board.getRows()][board.getCols()];
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getCols(); j++) {
+                grid[i][j] = new Tile(board, i, j);
+            }
+        }
+        return grid;
+    }
+
+    static PathfindingStrategy strategy(String name) {
+        switch (name) {
+            case "BFS": return new BFSStrategy();
+            case "DFS": return new DFSStrategy();
+            case "ASTAR": return new AStarStrategy();
+            case "DSTAR": return new IncrementalPathfindingStrategy();
+            case "PARALLEL_BFS": return new ParallelBFSStrategy();
+            case "BIDIR": return new BidirectionalBFSStrategy();
+            case "DIJKSTRA": return new DijkstraStrategy();
+            case "WASTAR": return new WeightedAStarStrategy();
+            case "HPA": return new HierarchicalStrategy();
+            default: throw new IllegalArgumentException("Unknown strategy " + name);
+        }
+    }
+}
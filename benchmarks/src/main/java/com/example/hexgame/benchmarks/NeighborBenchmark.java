@@ -0,0 +1,46 @@
+package com.example.hexgame.benchmarks;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.model.Tile;
+import com.example.hexgame.utils.StrategyUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Neighbor lookup for every cell of a 64x64 board. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class NeighborBenchmark {
+    private static final int SIZE = 64;
+
+    private HexBoard board;
+    private Tile[][] grid;
+    private final int[] neighbors = new int[6];
+
+    @Setup
+    public void setUp() {
+        board = new HexBoard(SIZE, SIZE);
+        grid = BenchmarkBoards.tilesFor(board);
+    }
+
+    @Benchmark
+    public void tileNeighbors(Blackhole bh) {
+        for (Tile[] row : grid) {
+            for (Tile tile : row) {
+                bh.consume(StrategyUtils.getNeighbors(tile, grid, SIZE, SIZE));
+            }
+        }
+    }
+
+    @Benchmark
+    public void cellNeighbors(Blackhole bh) {
+        for (int cell = 0; cell < board.size(); cell++) {
+            bh.consume(StrategyUtils.getNeighbors(board, cell, neighbors));
+        }
+    }
+}
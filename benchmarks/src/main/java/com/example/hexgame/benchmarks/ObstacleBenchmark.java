@@ -0,0 +1,62 @@
+package com.example.hexgame.benchmarks;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.BoardGenerator;
+import com.example.hexgame.utils.ObstaclePlacer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The original cluster placement, with the top-up target scaled to the requested
+ * density, against {@link BoardGenerator} at the same density.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObstacleBenchmark {
+
+    @Param({"11", "64", "256", "1024", "4096"})
+    int size;
+
+    @Param({"0.1", "0.3"})
+    double density;
+
+    @Param({"42"})
+    long seed;
+
+    private HexBoard board;
+    private Random rand;
+    private int minObstacles;
+    private BoardGenerator generator;
+    private long nextSeed;
+
+    @Setup
+    public void setUp() {
+        board = new HexBoard(size, size);
+        rand = new Random(seed);
+        minObstacles = Math.max(ObstaclePlacer.MIN_OBSTACLES, (int) (board.size() * density));
+        generator = new BoardGenerator(density);
+        nextSeed = seed;
+    }
+
+    @Benchmark
+    public HexBoard placeObstacles() {
+        board.clear();
+        board.setCat(board.index(size / 2, size / 2));
+        ObstaclePlacer.placeObstacles(board, rand, minObstacles);
+        return board;
+    }
+
+    @Benchmark
+    public HexBoard generateBoard() {
+        board.clear();
+        board.setCat(board.index(size / 2, size / 2));
+        generator.generate(board, nextSeed++);
+        return board;
+    }
+}
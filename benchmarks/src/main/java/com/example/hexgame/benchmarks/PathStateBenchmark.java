@@ -0,0 +1,54 @@
+package com.example.hexgame.benchmarks;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.model.Tile;
+import com.example.hexgame.utils.PathState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Tile-backed cache benchmarks; sizes stay small because every cell is a Swing component. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PathStateBenchmark {
+
+    @Param({"11", "64", "256"})
+    int size;
+
+    @Param({"0.1", "0.3"})
+    double density;
+
+    @Param({"42"})
+    long seed;
+
+    private Tile[][] grid;
+    private Tile cat;
+    private PathState pathState;
+
+    @Setup
+    public void setUp() {
+        HexBoard board = BenchmarkBoards.randomBoard(size, density, seed);
+        grid = BenchmarkBoards.tilesFor(board);
+        cat = grid[size / 2][size / 2];
+        pathState = new PathState(board, grid);
+        pathState.updatePath(cat);
+    }
+
+    @Benchmark
+    public List<Tile> cacheHit() {
+        pathState.updatePath(cat);
+        return pathState.getPath(cat);
+    }
+
+    @Benchmark
+    public List<Tile> cacheMiss() {
+        pathState.setStrategy(pathState.activeStrategy);
+        pathState.updatePath(cat);
+        return pathState.getPath(cat);
+    }
+}
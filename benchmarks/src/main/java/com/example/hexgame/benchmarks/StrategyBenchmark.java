@@ -0,0 +1,47 @@
+package com.example.hexgame.benchmarks;
+
+import com.example.hexgame.algorithms.BoardPathResult;
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.model.HexBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+    @Param({"11", "64", "256", "1024", "4096"})
+    int size;
+
+    @Param({"0.1", "0.3"})
+    double density;
+
+    @Param({"42"})
+    long seed;
+
+    /**
+     * D* Lite and HPA* keep their search state between calls on an unchanged
+     * board, so for them this measures the repeated query, not the first.
+     */
+    @Param({"BFS", "DFS", "ASTAR", "DSTAR", "PARALLEL_BFS", "BIDIR", "DIJKSTRA", "WASTAR", "HPA"})
+    String strategy;
+
+    private HexBoard board;
+    private PathfindingStrategy impl;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkBoards.randomBoard(size, density, seed);
+        impl = BenchmarkBoards.strategy(strategy);
+    }
+
+    @Benchmark
+    public BoardPathResult findPath() {
+        return impl.findPath(board, board.getCat());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hexgame;
+
+import com.example.hexgame.io.ReplayCli;
+import com.example.hexgame.server.LoadGenerator;
+import com.example.hexgame.server.ServerCli;
+import com.example.hexgame.sim.SimulatorCli;
+import com.example.hexgame.ui.Game;
+
+import java.util.Arrays;
+
+/**
+ * Entry point of the jar: starts the game, the headless simulator when the
+ * first argument is {@code sim}, the archive viewer for {@code replay}, the
+ * game server for {@code server}, or its load generator for {@code load}.
+ */
+public class Main {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("sim")) {
+            SimulatorCli.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("replay")) {
+            ReplayCli.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("server")) {
+            ServerCli.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("load")) {
+            LoadGenerator.main(Arrays.copyOfRange(args, 1, args.length));
+        } else {
+            Game.main(args);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.hexgame.ai;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IntRingBuffer;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+
+/**
+ * Finds the cat's escape distance and the cells lying on any of its shortest
+ * escape paths. Those cells are the only blocks that can lengthen the cat's
+ * escape right away, so they make up the trapper's candidate moves.
+ *
+ * <p>{@link #cells} come out layer by layer, farthest from the cat first, and
+ * the cat itself is left out; {@link ThreatAnalysis} builds on the layers.
+ */
+class EscapeAnalysis {
+    private int[] dist = new int[0];
+    private int[] mark = new int[0];
+    private int stamp = 0;
+    private int onPath;
+    private final IntRingBuffer queue = new IntRingBuffer(64);
+    private final IntRingBuffer back = new IntRingBuffer(64);
+    private final int[] neighbors = new int[6];
+    int[] cells = new int[16];
+
+    int distance;
+    int cellCount;
+    int catOptions;
+
+    /** Analyses the position; {@link #distance} is -1 when the cat is trapped. */
+    void analyse(HexBoard board, int cat) {
+        int n = board.size();
+        if (dist.length < n) {
+            dist = new int[n];
+            mark = new int[n];
+            stamp = 0;
+        }
+        stamp += 2;
+        if (stamp < 0) {
+            Arrays.fill(mark, 0);
+            stamp = 2;
+        }
+        int seen = stamp - 1;
+        onPath = stamp;
+
+        // Forward BFS, finishing the level that first touches the border
+        queue.clear();
+        back.clear();
+        mark[cat] = seen;
+        dist[cat] = 0;
+        queue.add(cat);
+        distance = -1;
+        while (!queue.isEmpty()) {
+            int cur = queue.poll();
+            if (distance >= 0 && dist[cur] > distance) break;
+            if (board.isAtBorder(cur)) {
+                distance = dist[cur];
+                mark[cur] = onPath;
+                back.add(cur);
+                continue;
+            }
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (mark[neighbor] < seen && !board.isBlocked(neighbor)) {
+                    mark[neighbor] = seen;
+                    dist[neighbor] = dist[cur] + 1;
+                    queue.add(neighbor);
+                }
+            }
+        }
+
+        // Walk back from the nearest border cells along decreasing distance
+        cellCount = 0;
+        catOptions = 0;
+        while (!back.isEmpty()) {
+            int cur = back.poll();
+            if (cur == cat) continue;
+            if (cellCount == cells.length) cells = Arrays.copyOf(cells, cellCount << 1);
+            cells[cellCount++] = cur;
+            if (dist[cur] == 1) catOptions++;
+
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (mark[neighbor] == seen && dist[neighbor] == dist[cur] - 1) {
+                    mark[neighbor] = onPath;
+                    back.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /** Copies up to {@code max} path cells into {@code out}, nearest to the cat first. */
+    int candidates(int[] out, int max) {
+        // The backward walk emits cells in decreasing distance from the cat
+        int count = Math.min(max, cellCount);
+        for (int k = 0; k < count; k++) out[k] = cells[cellCount - 1 - k];
+        return count;
+    }
+
+    /** Steps from the cat; only meaningful for cells the last analysis reached. */
+    int distanceFromCat(int cell) {
+        return dist[cell];
+    }
+
+    /** Whether {@code cell}, or the cat, lies on a shortest escape found by the last analysis. */
+    boolean isOnPath(int cell) {
+        return mark[cell] == onPath;
+    }
+}
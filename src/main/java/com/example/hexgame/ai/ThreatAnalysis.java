@@ -0,0 +1,176 @@
+package com.example.hexgame.ai;
+
+import com.example.hexgame.algorithms.AStarStrategy;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Works out for every cell at once how far the cat would have to run if that
+ * cell were blocked, instead of one search per candidate block.
+ *
+ * <p>{@link EscapeAnalysis} gives the cells on shortest escapes, layered by
+ * their distance from the cat. Every shortest escape crosses each layer once,
+ * so a block lengthens the escape only if it is the one cell of its layer;
+ * everywhere else the distance stays. Escapes through
+ * each cell are counted forward and backward over the layers, scaled per
+ * layer so the counts cannot overflow. Only the must-pass cells need a search
+ * with the cell blocked: an A* per cell on a per-thread copy of the board,
+ * run as fork-join tasks.
+ *
+ * <p>One analysis at a time per instance; the board must not change while it runs.
+ */
+public class ThreatAnalysis implements AutoCloseable {
+    /** Pool for the must-pass searches; null runs them on the calling thread. */
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+    private final AStarStrategy search = new AStarStrategy();
+
+    private final EscapeAnalysis escape = new EscapeAnalysis();
+    private int[] layered = new int[0];
+    private double[] forward = new double[0], backward = new double[0];
+    private final int[] neighbors = new int[6];
+
+    /** Runs the must-pass searches on the common pool. */
+    public ThreatAnalysis() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /** With {@code parallelism} 1 no pool is started and everything runs on the caller. */
+    public ThreatAnalysis(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Invalid parallelism " + parallelism);
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        this.ownsPool = true;
+    }
+
+    /** Runs on a pool owned by the caller; {@link #close} leaves it running. */
+    public ThreatAnalysis(ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("No pool");
+        this.pool = pool;
+        this.ownsPool = false;
+    }
+
+    public ThreatMap analyse(HexBoard board, int cat) {
+        int n = board.size();
+        if (layered.length < n) {
+            layered = new int[n];
+            forward = new double[n];
+            backward = new double[n];
+        }
+        escape.analyse(board, cat);
+        int distance = escape.distance;
+
+        int[] after = new int[n];
+        double[] share = new double[n];
+        for (int cell = 0; cell < n; cell++) {
+            after[cell] = board.isBlocked(cell) || cell == cat ? ThreatMap.NOT_OPEN : distance;
+        }
+        if (distance < 0) return new ThreatMap(cat, ThreatMap.TRAPPED, after, share, new int[0]);
+
+        // The shortest-escape cells layer by layer, farthest first, and the cat as the last layer
+        int cells = escape.cellCount;
+        System.arraycopy(escape.cells, 0, layered, 0, cells);
+        layered[cells++] = cat;
+
+        // Escapes from each cell to the border, then from the cat to each cell, as shares of their layer
+        int[] width = new int[distance + 1];
+        double[] backSum = new double[distance + 1], forwardSum = new double[distance + 1], bothSum = new double[distance + 1];
+        for (int k = 0; k < cells; k++) {
+            int cur = layered[k], l = escape.distanceFromCat(cur);
+            width[l]++;
+            backward[cur] = l == distance ? 1 : sumLayer(board, cur, l + 1, backward) / backSum[l + 1];
+            backSum[l] += backward[cur];
+        }
+        for (int k = cells - 1; k >= 0; k--) {
+            int cur = layered[k], l = escape.distanceFromCat(cur);
+            forward[cur] = l == 0 ? 1 : sumLayer(board, cur, l - 1, forward) / forwardSum[l - 1];
+            forwardSum[l] += forward[cur];
+            bothSum[l] += forward[cur] * backward[cur];
+        }
+
+        int mustCount = 0;
+        int[] mustPass = new int[distance];
+        for (int k = cells - 1; k >= 0; k--) {
+            int cur = layered[k], l = escape.distanceFromCat(cur);
+            share[cur] = forward[cur] * backward[cur] / bothSum[l];
+            if (width[l] == 1 && cur != cat) mustPass[mustCount++] = cur;
+        }
+        mustPass = Arrays.copyOf(mustPass, mustCount);
+
+        if (pool != null && mustCount > 1) {
+            pool.invoke(new Split(board, cat, mustPass, after, 0, mustCount));
+        } else {
+            for (int cell : mustPass) after[cell] = escapeAround(board, cat, cell);
+        }
+        return new ThreatMap(cat, distance, after, share, mustPass);
+    }
+
+    @Override
+    public void close() {
+        if (pool != null && ownsPool) pool.shutdown();
+    }
+
+    /** Sum of {@code values} over the shortest-escape neighbors of {@code cell} in layer {@code l}. */
+    private double sumLayer(HexBoard board, int cell, int l, double[] values) {
+        double sum = 0;
+        int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+        for (int k = 0; k < count; k++) {
+            int neighbor = neighbors[k];
+            if (escape.isOnPath(neighbor) && escape.distanceFromCat(neighbor) == l) sum += values[neighbor];
+        }
+        return sum;
+    }
+
+    /** Steps from the cat to the border with {@code cut} blocked as well, or {@link ThreatMap#TRAPPED}. */
+    private int escapeAround(HexBoard board, int cat, int cut) {
+        Scratch s = scratch.get();
+        // Each thread blocks cells on its own copy; moving the cat onto an open cell keeps the version
+        if (s.source != board || s.version != board.getVersion() || s.board.getCat() != board.getCat()) {
+            s.board = new HexBoard(board);
+            s.source = board;
+            s.version = board.getVersion();
+        }
+        s.board.setBlocked(cut, true);
+        int steps = search.findDistance(s.board, cat);
+        s.board.setBlocked(cut, false);
+        return steps;
+    }
+
+    private static final class Scratch {
+        HexBoard source, board;
+        int version;
+    }
+
+    /** Halves the must-pass cells down to one search per task. */
+    private class Split extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final HexBoard board;
+        private final int cat;
+        private final int[] cells, after;
+        private final int from, to;
+
+        Split(HexBoard board, int cat, int[] cells, int[] after, int from, int to) {
+            this.board = board;
+            this.cat = cat;
+            this.cells = cells;
+            this.after = after;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                after[cells[from]] = escapeAround(board, cat, cells[from]);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Split(board, cat, cells, after, from, mid), new Split(board, cat, cells, after, mid, to));
+        }
+    }
+}
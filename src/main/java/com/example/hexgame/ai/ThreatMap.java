@@ -0,0 +1,57 @@
+package com.example.hexgame.ai;
+
+/**
+ * Outcome of a {@link ThreatAnalysis}: per cell, the cat's escape distance
+ * with that cell blocked and the share of the cat's shortest escapes running
+ * through it. Both arrays are indexed by cell and can be painted as heatmaps.
+ */
+public class ThreatMap {
+    /** Escape distance when the cat cannot reach the border. */
+    public static final int TRAPPED = -1;
+    /** Entry of cells that cannot be blocked: the cat's and those already blocked. */
+    public static final int NOT_OPEN = -2;
+
+    public final int cat;
+    /** Steps from the cat to the border now, or {@link #TRAPPED}. */
+    public final int distance;
+    public final int[] distanceIfBlocked;
+    /** Fraction of shortest escapes passing through each cell; 1 on must-pass cells, 0 off every shortest escape. */
+    public final double[] pathShare;
+    /** Cells on every shortest escape, nearest to the cat first; only blocking one of them lengthens the escape. */
+    public final int[] mustPass;
+
+    public ThreatMap(int cat, int distance, int[] distanceIfBlocked, double[] pathShare, int[] mustPass) {
+        this.cat = cat;
+        this.distance = distance;
+        this.distanceIfBlocked = distanceIfBlocked;
+        this.pathShare = pathShare;
+        this.mustPass = mustPass;
+    }
+
+    /**
+     * Steps the escape grows by when {@code cell} is blocked;
+     * {@link Integer#MAX_VALUE} if that traps the cat, -1 if it cannot be blocked.
+     */
+    public int gain(int cell) {
+        int after = distanceIfBlocked[cell];
+        if (after == NOT_OPEN) return -1;
+        if (distance == TRAPPED) return 0;
+        return after == TRAPPED ? Integer.MAX_VALUE : after - distance;
+    }
+
+    /** The block that hurts the cat most: largest gain, then largest path share; -1 if no cell is open. */
+    public int best() {
+        int best = -1, bestGain = -1;
+        double bestShare = -1;
+        for (int cell = 0; cell < distanceIfBlocked.length; cell++) {
+            int g = gain(cell);
+            if (g < 0) continue;
+            if (g > bestGain || (g == bestGain && pathShare[cell] > bestShare)) {
+                best = cell;
+                bestGain = g;
+                bestShare = pathShare[cell];
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.hexgame.ai;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.StrategyUtils;
+import com.example.hexgame.utils.TranspositionTable;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks the tile to block. Trapper candidates are the cells on the cat's
+ * shortest escape paths, and positions are scored by the cat's escape
+ * distance. {@link Mode#ALPHA_BETA} runs iterative deepening against a cat
+ * that may step to any open neighbor, with a transposition table keyed by the
+ * board's Zobrist hash. {@link Mode#MCTS} runs UCT with random trapper playouts
+ * against a cat that follows its shortest path.
+ *
+ * <p>An engine is single-threaded; use one per thread. Engines may share a
+ * {@link TranspositionTable} to reuse each other's results.
+ */
+public class TrapperEngine {
+    public enum Mode { ALPHA_BETA, MCTS }
+
+    static final int WIN = 1_000_000;
+    private static final int MAX_CANDIDATES = 16;
+    private static final int MAX_DEPTH = 64;
+    /** Scores beyond this are forced wins or losses, {@code WIN} minus the plies to the end. */
+    private static final int MATE_BOUND = WIN - 2 * MAX_DEPTH - 2;
+    /** Static scores stay inside this, clear of mate scores and the table's value field. */
+    static final int STATIC_LIMIT = MATE_BOUND - 1;
+    private static final int EXACT = 0, LOWER = 1, UPPER = 2;
+    private static final double EXPLORATION = 1.4;
+    private static final int VALUE_OFFSET = 1 << 21;
+    /** Nodes between clock reads; cat nodes count too, so the check cannot be a mask on the total. */
+    private static final int CHECK_INTERVAL = 64;
+
+    private final Mode mode;
+    private final TranspositionTable table;
+    private final SplittableRandom random;
+    private final EscapeAnalysis analysis = new EscapeAnalysis();
+    private final int[][] moveBuffers = new int[2 * MAX_DEPTH + 2][MAX_CANDIDATES];
+    private final int[] neighbors = new int[6];
+    private int[] undo = new int[64];
+    private int undoCount;
+
+    private HexBoard board;
+    private int cat;
+    private long nodes, nextCheck;
+    private long deadline;
+    private boolean aborted;
+    private int rootBestMove;
+
+    public TrapperEngine() {
+        this(Mode.ALPHA_BETA);
+    }
+
+    public TrapperEngine(Mode mode) {
+        this(mode, 20, 42L);
+    }
+
+    public TrapperEngine(Mode mode, int tableBits, long seed) {
+        this(mode, new TranspositionTable(tableBits), seed);
+    }
+
+    public TrapperEngine(Mode mode, TranspositionTable table, long seed) {
+        this.mode = mode;
+        this.table = table;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Searches for at most {@code millis} and returns the best block found, or
+     * cell -1 if the cat is already trapped or free.
+     */
+    public TrapperMove chooseMove(HexBoard position, long millis) {
+        if (position.getCat() < 0) throw new IllegalArgumentException("Board has no cat");
+        long begin = System.nanoTime();
+        deadline = begin + millis * 1_000_000L;
+        board = new HexBoard(position);
+        cat = board.getCat();
+        nodes = 0;
+        nextCheck = CHECK_INTERVAL;
+        aborted = false;
+
+        analysis.analyse(board, cat);
+        if (analysis.distance <= 0) {
+            return new TrapperMove(-1, analysis.distance < 0 ? WIN : -WIN, 0, 1, System.nanoTime() - begin);
+        }
+        int[] rootMoves = new int[MAX_CANDIDATES];
+        int rootCount = analysis.candidates(rootMoves, MAX_CANDIDATES);
+
+        return mode == Mode.MCTS
+                ? searchMcts(rootMoves, rootCount, begin)
+                : searchAlphaBeta(rootMoves[0], begin);
+    }
+
+    private TrapperMove searchAlphaBeta(int fallback, long begin) {
+        int bestMove = fallback, bestScore = 0, completed = 0;
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            int score = trapperNode(depth, 0, -WIN - 1, WIN + 1);
+            if (aborted) break;
+            bestMove = rootBestMove;
+            bestScore = score;
+            completed = depth;
+            if (Math.abs(score) > MATE_BOUND) break;
+        }
+        return new TrapperMove(bestMove, bestScore, completed, nodes, System.nanoTime() - begin);
+    }
+
+    private int trapperNode(int depth, int ply, int alpha, int beta) {
+        if (++nodes >= nextCheck) {
+            nextCheck = nodes + CHECK_INTERVAL;
+            if (System.nanoTime() > deadline) aborted = true;
+        }
+        if (aborted) return 0;
+
+        // The analysis doubles as the trapped check; a sealed cat's search ends with its room
+        analysis.analyse(board, cat);
+        if (analysis.distance < 0) return WIN - ply;
+        if (analysis.distance == 0) return -WIN + ply;
+        if (depth == 0) return evaluate();
+
+        long key = board.getHash();
+        long entry = table.get(key);
+        int ttMove = -1;
+        if (entry != TranspositionTable.MISS) {
+            ttMove = (int) entry;
+            if (ply > 0 && table.getDepth(key) >= depth) {
+                int value = fromTable((int) (entry >>> 34) - VALUE_OFFSET, ply);
+                int flag = (int) (entry >>> 32) & 3;
+                if (flag == EXACT) return value;
+                if (flag == LOWER && value >= beta) return value;
+                if (flag == UPPER && value <= alpha) return value;
+            }
+        }
+
+        int[] moves = moveBuffers[ply];
+        int count = analysis.candidates(moves, MAX_CANDIDATES);
+        for (int k = 1; k < count; k++) {
+            if (moves[k] == ttMove) {
+                moves[k] = moves[0];
+                moves[0] = ttMove;
+                break;
+            }
+        }
+
+        int alphaOrig = alpha;
+        int best = -WIN - 1, bestMove = moves[0];
+        for (int k = 0; k < count; k++) {
+            int move = moves[k];
+            block(move, true);
+            int value = catNode(depth, ply + 1, alpha, beta);
+            block(move, false);
+            if (aborted) return 0;
+
+            if (value > best) {
+                best = value;
+                bestMove = move;
+            }
+            alpha = Math.max(alpha, value);
+            if (alpha >= beta) break;
+        }
+
+        int flag = best <= alphaOrig ? UPPER : best >= beta ? LOWER : EXACT;
+        table.put(key, ((long) (toTable(best, ply) + VALUE_OFFSET) << 34) | ((long) flag << 32) | bestMove, depth);
+        if (ply == 0) rootBestMove = bestMove;
+        return best;
+    }
+
+    private int catNode(int depth, int ply, int alpha, int beta) {
+        nodes++;
+        int[] moves = moveBuffers[ply];
+        int count = 0;
+        int found = StrategyUtils.getNeighbors(board, cat, neighbors);
+        for (int k = 0; k < found; k++) {
+            int next = neighbors[k];
+            if (board.isBlocked(next)) continue;
+            if (board.isAtBorder(next)) return -WIN + ply;
+            moves[count++] = next;
+        }
+        if (count == 0) return WIN - ply;
+
+        int best = WIN + 1;
+        int from = cat;
+        for (int k = 0; k < count; k++) {
+            moveCat(moves[k]);
+            int value = trapperNode(depth - 1, ply + 1, alpha, beta);
+            moveCat(from);
+            if (aborted) return 0;
+
+            best = Math.min(best, value);
+            beta = Math.min(beta, value);
+            if (alpha >= beta) break;
+        }
+        return best;
+    }
+
+    /**
+     * Mate scores count plies from the root, but the table outlives one root;
+     * it stores them counted from the position itself instead.
+     */
+    static int toTable(int value, int ply) {
+        if (value > MATE_BOUND) return value + ply;
+        if (value < -MATE_BOUND) return value - ply;
+        return value;
+    }
+
+    static int fromTable(int value, int ply) {
+        if (value > MATE_BOUND) return value - ply;
+        if (value < -MATE_BOUND) return value + ply;
+        return value;
+    }
+
+    private int evaluate() {
+        return staticScore(analysis.distance, analysis.catOptions);
+    }
+
+    /** Far from the border and with few ways out is good for the trapper; clamped to {@link #STATIC_LIMIT}. */
+    static int staticScore(int distance, int catOptions) {
+        long score = 100L * distance - 10L * catOptions;
+        return (int) Math.max(-STATIC_LIMIT, Math.min(STATIC_LIMIT, score));
+    }
+
+    private TrapperMove searchMcts(int[] rootMoves, int rootCount, long begin) {
+        Node root = new Node(null, -1, true);
+        root.untried = Arrays.copyOf(rootMoves, rootCount);
+        root.untriedCount = rootCount;
+        int iterations = 0;
+
+        while ((iterations++ & 63) != 0 || System.nanoTime() < deadline) {
+            undoCount = 0;
+            Node node = root;
+            double reward;
+
+            // Selection and expansion
+            while (true) {
+                if (node.terminal >= 0) {
+                    reward = node.terminal;
+                    break;
+                }
+                if (node.untriedCount > 0) {
+                    int k = random.nextInt(node.untriedCount);
+                    int move = node.untried[k];
+                    node.untried[k] = node.untried[--node.untriedCount];
+                    apply(node.trapperToMove, move);
+                    node = node.add(move);
+                    expand(node);
+                    reward = node.terminal >= 0 ? node.terminal : playout();
+                    break;
+                }
+                node = node.select();
+                apply(!node.trapperToMove, node.move);
+            }
+
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                n.reward += reward;
+            }
+            while (undoCount > 0) revert();
+        }
+
+        Node best = null;
+        for (Node child = root.firstChild; child != null; child = child.sibling) {
+            if (best == null || child.visits > best.visits) best = child;
+        }
+        int cell = best == null ? rootMoves[0] : best.move;
+        int score = best == null ? 0 : (int) Math.round(1000 * best.reward / best.visits);
+        return new TrapperMove(cell, score, 0, nodes, System.nanoTime() - begin);
+    }
+
+    private void expand(Node node) {
+        nodes++;
+        if (node.trapperToMove) {
+            analysis.analyse(board, cat);
+            if (analysis.distance < 0) node.terminal = 1;
+            else if (analysis.distance == 0) node.terminal = 0;
+            else {
+                node.untried = new int[MAX_CANDIDATES];
+                node.untriedCount = analysis.candidates(node.untried, MAX_CANDIDATES);
+            }
+        } else {
+            node.untried = new int[6];
+            int found = StrategyUtils.getNeighbors(board, cat, neighbors);
+            for (int k = 0; k < found; k++) {
+                if (!board.isBlocked(neighbors[k])) node.untried[node.untriedCount++] = neighbors[k];
+            }
+            if (node.untriedCount == 0) node.terminal = 1;
+        }
+    }
+
+    /** Plays random blocks against a shortest-path cat; 1 if trapped, 0 if it escapes. */
+    private double playout() {
+        int base = undoCount;
+        int[] moves = moveBuffers[0];
+        double reward = 0.5;
+        for (int step = 0; step < MAX_DEPTH; step++) {
+            nodes++;
+            analysis.analyse(board, cat);
+            if (analysis.distance < 0) {
+                reward = 1;
+                break;
+            }
+            if (analysis.distance == 0) {
+                reward = 0;
+                break;
+            }
+            int count = analysis.candidates(moves, 8);
+            int block = moves[random.nextInt(count)];
+            apply(true, block);
+
+            analysis.analyse(board, cat);
+            if (analysis.distance < 0) {
+                reward = 1;
+                break;
+            }
+            int next = -1;
+            for (int k = analysis.cellCount - 1; k >= 0 && next < 0; k--) {
+                int cell = analysis.cells[k];
+                if (analysis.distanceFromCat(cell) == 1) next = cell;
+            }
+            if (next < 0) next = analysis.cells[analysis.cellCount - 1];
+            apply(false, next);
+        }
+        while (undoCount > base) revert();
+        return reward;
+    }
+
+    private void apply(boolean trapperMove, int cell) {
+        if (undoCount + 2 > undo.length) undo = Arrays.copyOf(undo, undo.length << 1);
+        if (trapperMove) {
+            block(cell, true);
+            undo[undoCount++] = cell;
+        } else {
+            undo[undoCount++] = cat;
+            moveCat(cell);
+            undo[undoCount++] = -1 - cell;
+        }
+    }
+
+    private void revert() {
+        int entry = undo[--undoCount];
+        if (entry >= 0) {
+            block(entry, false);
+            return;
+        }
+        moveCat(undo[--undoCount]);
+    }
+
+    private void block(int cell, boolean blocked) {
+        board.setBlocked(cell, blocked);
+    }
+
+    private void moveCat(int to) {
+        board.setCat(to);
+        cat = to;
+    }
+
+    private static class Node {
+        final Node parent;
+        final int move;
+        final boolean trapperToMove;
+        Node firstChild, sibling;
+        int[] untried;
+        int untriedCount;
+        int terminal = -1;
+        int visits;
+        double reward;
+
+        Node(Node parent, int move, boolean trapperToMove) {
+            this.parent = parent;
+            this.move = move;
+            this.trapperToMove = trapperToMove;
+        }
+
+        Node add(int move) {
+            Node child = new Node(this, move, !trapperToMove);
+            child.sibling = firstChild;
+            firstChild = child;
+            return child;
+        }
+
+        /** UCT choice, from the trapper's view at trapper nodes and the cat's at cat nodes. */
+        Node select() {
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            double logVisits = Math.log(visits);
+            for (Node child = firstChild; child != null; child = child.sibling) {
+                double mean = child.reward / child.visits;
+                if (!trapperToMove) mean = 1 - mean;
+                double value = mean + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+}
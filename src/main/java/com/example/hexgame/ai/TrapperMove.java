@@ -0,0 +1,30 @@
+package com.example.hexgame.ai;
+
+/**
+ * Outcome of a {@link TrapperEngine} search.
+ */
+public class TrapperMove {
+    public final int cell;
+    public final int score;
+    public final int depth;
+    public final long nodes;
+    public final long elapsedNanos;
+
+    public TrapperMove(int cell, int score, int depth, long nodes, long elapsedNanos) {
+        this.cell = cell;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cell=%d score=%d depth=%d nodes=%d nps=%.0f",
+                cell, score, depth, nodes, getNodesPerSecond());
+    }
+}
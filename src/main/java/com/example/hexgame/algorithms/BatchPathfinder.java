@@ -0,0 +1,98 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs many independent searches on a work-stealing pool. Each worker thread
+ * reuses its own {@link SearchScratch}, and results come back in job order.
+ *
+ * <p>Boards must not be modified while a batch runs. Stateless strategies such
+ * as BFS/DFS/A* can be shared between jobs; stateful ones such as
+ * {@link IncrementalPathfindingStrategy} need an instance per job.
+ */
+public class BatchPathfinder implements AutoCloseable {
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    public BatchPathfinder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchPathfinder(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.ownsPool = true;
+    }
+
+    /** Runs on a pool owned by the caller; {@link #close} leaves it running. */
+    public BatchPathfinder(ForkJoinPool pool) {
+        this.pool = pool;
+        this.ownsPool = false;
+    }
+
+    public List<BoardPathResult> findAll(List<Job> jobs) {
+        Job[] work = jobs.toArray(new Job[0]);
+        BoardPathResult[] results = new BoardPathResult[work.length];
+        if (work.length == 0) return Arrays.asList(results);
+
+        // Small leaves keep stealing effective when job costs vary a lot
+        int leafSize = Math.max(1, work.length / (pool.getParallelism() * 16));
+        pool.invoke(new Split(work, results, 0, work.length, leafSize));
+        return Arrays.asList(results);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) pool.shutdown();
+    }
+
+    public static class Job {
+        public final HexBoard board;
+        public final int start;
+        public final PathfindingStrategy strategy;
+
+        public Job(HexBoard board, int start, PathfindingStrategy strategy) {
+            this.board = board;
+            this.start = start;
+            this.strategy = strategy;
+        }
+    }
+
+    private static class Split extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Job[] jobs;
+        private final BoardPathResult[] results;
+        private final int from, to, leafSize;
+
+        Split(Job[] jobs, BoardPathResult[] results, int from, int to, int leafSize) {
+            this.jobs = jobs;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int k = from; k < to; k++) {
+                    Job job = jobs[k];
+                    results[k] = job.strategy.findPath(job.board, job.start);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Split(jobs, results, from, mid, leafSize),
+                    new Split(jobs, results, mid, to, leafSize));
+        }
+    }
+}
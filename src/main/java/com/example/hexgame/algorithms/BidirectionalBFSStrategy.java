@@ -0,0 +1,84 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IntRingBuffer;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+
+/**
+ * BFS from the cat and from every open border cell at once, always growing the
+ * smaller frontier by a full level. With level-at-a-time expansion the first
+ * cell reached from both sides lies on a shortest escape path.
+ */
+public class BidirectionalBFSStrategy implements PathfindingStrategy {
+    private static final int UNSEEN = -2;
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        int n = board.size();
+        int[] parentF = new int[n];
+        int[] parentB = new int[n];
+        Arrays.fill(parentF, UNSEEN);
+        Arrays.fill(parentB, UNSEEN);
+        int[] visitedOrder = new int[16];
+        int explored = 0;
+        int[] neighbors = new int[6];
+
+        IntRingBuffer forward = new IntRingBuffer(64);
+        IntRingBuffer backward = new IntRingBuffer(64);
+        parentF[start] = -1;
+        forward.add(start);
+
+        int rowNum = board.getRows(), colNum = board.getCols();
+        for (int i = 0; i < rowNum; i++) {
+            int step = (i == 0 || i == rowNum - 1) ? 1 : Math.max(1, colNum - 1);
+            for (int j = 0; j < colNum; j += step) {
+                int cell = board.index(i, j);
+                if (!board.isBlocked(cell)) {
+                    parentB[cell] = -1;
+                    backward.add(cell);
+                }
+            }
+        }
+
+        int meet = parentB[start] != UNSEEN ? start : -1;
+        while (meet < 0 && !forward.isEmpty() && !backward.isEmpty()) {
+            boolean expandForward = forward.size() <= backward.size();
+            IntRingBuffer q = expandForward ? forward : backward;
+            int[] mine = expandForward ? parentF : parentB;
+            int[] other = expandForward ? parentB : parentF;
+
+            for (int levelSize = q.size(); levelSize > 0 && meet < 0; levelSize--) {
+                int cur = q.poll();
+                if (explored == visitedOrder.length) visitedOrder = Arrays.copyOf(visitedOrder, explored << 1);
+                visitedOrder[explored++] = cur;
+
+                int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+                for (int k = 0; k < count; k++) {
+                    int neighbor = neighbors[k];
+                    if (board.isBlocked(neighbor) || mine[neighbor] != UNSEEN) continue;
+                    mine[neighbor] = cur;
+                    if (other[neighbor] != UNSEEN) {
+                        meet = neighbor;
+                        break;
+                    }
+                    q.add(neighbor);
+                }
+            }
+        }
+
+        return new BoardPathResult(Arrays.copyOf(visitedOrder, explored), joinPath(meet, parentF, parentB));
+    }
+
+    private static int[] joinPath(int meet, int[] parentF, int[] parentB) {
+        if (meet < 0) return new int[0];
+        int[] head = StrategyUtils.reconstructPath(meet, parentF);
+        int tail = 0;
+        for (int cur = parentB[meet]; cur != -1; cur = parentB[cur]) tail++;
+
+        int[] path = Arrays.copyOf(head, head.length + tail);
+        int k = head.length;
+        for (int cur = parentB[meet]; cur != -1; cur = parentB[cur]) path[k++] = cur;
+        return path;
+    }
+}
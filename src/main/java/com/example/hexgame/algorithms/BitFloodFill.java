@@ -0,0 +1,204 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+import java.util.Arrays;
+
+/**
+ * Flood fill over bitsets, 64 cells per operation. The open cells are copied
+ * into row-aligned words, bit {@code j} of a row standing for column
+ * {@code j}, and the reached set grows a row at a time: an even row takes in
+ * columns {@code j - 1} and {@code j} of the rows around it, an odd row
+ * {@code j} and {@code j + 1}, so both are a shift and an or. Within a row,
+ * every run of open cells holding a reached cell is filled whole by one
+ * addition whose carry runs up the run, and once more on the bit-reversed row
+ * for the way down. A row whose reached set grew queues its two neighbors
+ * again until nothing changes; the last row queued goes first, so the fill
+ * runs ahead in one direction instead of widening evenly, and reaches the
+ * border early.
+ *
+ * <p>Answers whether a cell can escape, how big its region is and which
+ * cells it reaches, without per-cell queues. Not thread-safe; use one per
+ * thread.
+ */
+public final class BitFloodFill {
+    private HexBoard board;
+    private int version;
+    private int rows, cols, words;
+    private long lastMask;
+    private long[] open = new long[0];
+    private long[] reach = new long[0];
+    private long[] seed = new long[0], filled = new long[0];
+    private int[] stack = new int[0];
+    private int size;
+    private boolean[] queued = new boolean[0];
+    private boolean border;
+
+    /** Floods the open region around {@code start}; returns its size, 0 if {@code start} is blocked. */
+    public int fill(HexBoard board, int start) {
+        flood(board, start, false);
+        int count = 0;
+        for (long w : reach) count += Long.bitCount(w);
+        return count;
+    }
+
+    /** Whether an open path leads from {@code start} to the border; stops as soon as one does. */
+    public boolean canEscape(HexBoard board, int start) {
+        return flood(board, start, true);
+    }
+
+    /** Whether the last {@link #fill} reached {@code cell}. */
+    public boolean isReached(int cell) {
+        int i = cell / cols, j = cell - i * cols;
+        return (reach[i * words + (j >>> 6)] & (1L << j)) != 0;
+    }
+
+    /** Whether the last {@link #fill} reached a border cell. */
+    public boolean touchesBorder() {
+        return border;
+    }
+
+    private boolean flood(HexBoard board, int start, boolean stopAtBorder) {
+        load(board);
+        Arrays.fill(reach, 0L);
+        border = false;
+        if (board.isBlocked(start)) return false;
+        int i0 = start / cols, j0 = start - i0 * cols;
+        reach[i0 * words + (j0 >>> 6)] = 1L << j0;
+
+        // The start row spreads to its neighbors even if its run is the start cell alone
+        grow(i0);
+        size = 0;
+        boolean grew = true;
+        for (int i = i0; ; ) {
+            if (grew) {
+                if (isBorderRow(i)) {
+                    border = true;
+                    if (stopAtBorder) {
+                        // Leave the flags clean for the next call
+                        Arrays.fill(queued, false);
+                        return true;
+                    }
+                }
+                if (i > 0) enqueue(i - 1);
+                if (i + 1 < rows) enqueue(i + 1);
+            }
+            if (size == 0) break;
+            i = stack[--size];
+            queued[i] = false;
+            grew = grow(i);
+        }
+        return border;
+    }
+
+    /** Queues row {@code i} unless it already waits; each row waits at most once, so the stack never overflows. */
+    private void enqueue(int i) {
+        if (queued[i]) return;
+        queued[i] = true;
+        stack[size++] = i;
+    }
+
+    /** Re-derives row {@code i} from itself and the rows around it; returns whether it grew. */
+    private boolean grow(int i) {
+        int base = i * words;
+        boolean even = (i & 1) == 0;
+        for (int w = 0; w < words; w++) seed[w] = reach[base + w];
+        if (i > 0) project(base - words, even);
+        if (i + 1 < rows) project(base + words, even);
+        for (int w = 0; w < words; w++) seed[w] &= open[base + w];
+
+        // Upward: adding the seeds carries through the rest of each run
+        long carry = 0;
+        for (int w = 0; w < words; w++) {
+            long o = open[base + w], s = seed[w];
+            long sum = o + s;
+            long out = Long.compareUnsigned(sum, o) < 0 ? 1 : 0;
+            long total = sum + carry;
+            if (carry != 0 && total == 0) out = 1;
+            filled[w] = ((total ^ o) & o) | s;
+            carry = out;
+        }
+        // Downward: the same on the mirrored row
+        carry = 0;
+        for (int w = words - 1; w >= 0; w--) {
+            long o = Long.reverse(open[base + w]), s = Long.reverse(seed[w]);
+            long sum = o + s;
+            long out = Long.compareUnsigned(sum, o) < 0 ? 1 : 0;
+            long total = sum + carry;
+            if (carry != 0 && total == 0) out = 1;
+            filled[w] |= Long.reverse((total ^ o) & o);
+            carry = out;
+        }
+
+        boolean grew = false;
+        for (int w = 0; w < words; w++) {
+            if (filled[w] != reach[base + w]) {
+                reach[base + w] = filled[w];
+                grew = true;
+            }
+        }
+        return grew;
+    }
+
+    /** Ors into {@link #seed} the cells of a row next to the reached cells of the row at {@code from}. */
+    private void project(int from, boolean even) {
+        if (even) {
+            // Column j takes in j - 1 and j: shift towards higher columns
+            long below = 0;
+            for (int w = 0; w < words; w++) {
+                long r = reach[from + w];
+                seed[w] |= r | (r << 1) | below;
+                below = r >>> 63;
+            }
+        } else {
+            // Column j takes in j and j + 1: shift towards lower columns
+            long above = 0;
+            for (int w = words - 1; w >= 0; w--) {
+                long r = reach[from + w];
+                seed[w] |= r | (r >>> 1) | above;
+                above = r << 63;
+            }
+        }
+    }
+
+    private boolean isBorderRow(int i) {
+        int base = i * words;
+        if (i == 0 || i == rows - 1) {
+            for (int w = 0; w < words; w++) {
+                if (reach[base + w] != 0) return true;
+            }
+            return false;
+        }
+        return (reach[base] & 1) != 0 || (reach[base + words - 1] & (1L << (cols - 1))) != 0;
+    }
+
+    /** Copies the open cells of {@code board} into row-aligned words, unless they are current. */
+    private void load(HexBoard board) {
+        if (board == this.board && board.getVersion() == version) return;
+        if (board.getRows() != rows || board.getCols() != cols) {
+            rows = board.getRows();
+            cols = board.getCols();
+            words = (cols + 63) >>> 6;
+            lastMask = -1L >>> (words * 64 - cols);
+            open = new long[rows * words];
+            reach = new long[rows * words];
+            seed = new long[words];
+            filled = new long[words];
+            stack = new int[rows];
+            queued = new boolean[rows];
+        }
+        this.board = board;
+        this.version = board.getVersion();
+        int count = board.getWordCount();
+        for (int i = 0; i < rows; i++) {
+            long bit = (long) i * cols;
+            for (int w = 0; w < words; w++, bit += 64) {
+                int k = (int) (bit >>> 6), shift = (int) (bit & 63);
+                long blocked = board.getBlockedWord(k) >>> shift;
+                if (shift != 0 && k + 1 < count) blocked |= board.getBlockedWord(k + 1) << (64 - shift);
+                open[i * words + w] = ~blocked;
+            }
+            open[i * words + words - 1] &= lastMask;
+        }
+    }
+}
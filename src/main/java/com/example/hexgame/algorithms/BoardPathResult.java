@@ -0,0 +1,19 @@
+package com.example.hexgame.algorithms;
+
+public class BoardPathResult {
+    public final int[] visitedOrder;
+    public final int[] path;
+
+    public BoardPathResult(int[] visitedOrder, int[] path) {
+        this.visitedOrder = visitedOrder;
+        this.path = path;
+    }
+
+    public int getNodesExplored() {
+        return visitedOrder.length;
+    }
+
+    public int getPathLength() {
+        return path.length;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.StrategyUtils;
+
+/**
+ * Hex distance from a cell to the nearest open border cell, ignoring all other
+ * obstacles. It never overestimates the escape distance and changes by at most
+ * one between neighbors, so it is an admissible and consistent A* heuristic;
+ * unlike the distance to the nearest edge, it sees blocked border cells.
+ *
+ * <p>Along each side of the board the distance from a fixed cell falls to a
+ * minimum and rises again, so only the nearest open cells on either side of
+ * that minimum can be closest. They are looked up in per-side tables rebuilt
+ * from the border when the board changes, and a query costs eight distance
+ * evaluations.
+ *
+ * <p>Not thread-safe; use one per thread.
+ */
+public final class BorderDistance {
+    /** Distance reported when no border cell is open. */
+    public static final int NONE = Integer.MAX_VALUE / 4;
+
+    private HexBoard board;
+    private int version;
+    private int rows, cols;
+    private int bottomShift;
+    private boolean anyOpen;
+    private int[] topPrev = new int[0], topNext = new int[0], bottomPrev = new int[0], bottomNext = new int[0];
+    private int[] leftPrev = new int[0], leftNext = new int[0], rightPrev = new int[0], rightNext = new int[0];
+
+    /** Follows {@code board}; does nothing if it has not changed since the last call. */
+    public void update(HexBoard board) {
+        if (board == this.board && board.getVersion() == version) return;
+        this.board = board;
+        this.version = board.getVersion();
+        rows = board.getRows();
+        cols = board.getCols();
+        int last = rows - 1;
+        bottomShift = (last - (last & 1)) >> 1;
+        if (topPrev.length != cols) {
+            topPrev = new int[cols];
+            topNext = new int[cols];
+            bottomPrev = new int[cols];
+            bottomNext = new int[cols];
+        }
+        if (leftPrev.length != rows) {
+            leftPrev = new int[rows];
+            leftNext = new int[rows];
+            rightPrev = new int[rows];
+            rightNext = new int[rows];
+        }
+        anyOpen = false;
+        scan(0, 1, cols, topPrev, topNext);
+        scan(last * cols, 1, cols, bottomPrev, bottomNext);
+        scan(0, cols, rows, leftPrev, leftNext);
+        scan(cols - 1, cols, rows, rightPrev, rightNext);
+    }
+
+    /** Whether any border cell was open at the last {@link #update}. */
+    public boolean hasOpenBorder() {
+        return anyOpen;
+    }
+
+    /** Lower bound on the steps from {@code cell} to an open border cell, or {@link #NONE}. */
+    public int get(int cell) {
+        if (!anyOpen) return NONE;
+        int i = board.row(cell), j = board.col(cell);
+        int q = StrategyUtils.axialQ(i, j);
+
+        // Top row: cell (0, c) has axial q = c, and the distance bottoms out from c = q
+        int p = clamp(q, cols);
+        int best = Math.min(toRow(q, i, topPrev[p], 0, 0), toRow(q, i, topNext[p], 0, 0));
+        // Bottom row: axial q = c - bottomShift, bottoming out up to c = q + bottomShift
+        p = clamp(q + bottomShift, cols);
+        best = Math.min(best, Math.min(toRow(q, i, bottomPrev[p], rows - 1, bottomShift),
+                toRow(q, i, bottomNext[p], rows - 1, bottomShift)));
+        // Side columns bottom out at the cell's own row
+        best = Math.min(best, Math.min(toColumn(q, i, leftPrev[i], 0), toColumn(q, i, leftNext[i], 0)));
+        best = Math.min(best, Math.min(toColumn(q, i, rightPrev[i], cols - 1), toColumn(q, i, rightNext[i], cols - 1)));
+        return best;
+    }
+
+    private static int toRow(int q, int i, int c, int row, int shift) {
+        return c < 0 ? NONE : StrategyUtils.axialDistance(q, i, c - shift, row);
+    }
+
+    private static int toColumn(int q, int i, int r, int col) {
+        return r < 0 ? NONE : StrategyUtils.axialDistance(q, i, StrategyUtils.axialQ(r, col), r);
+    }
+
+    private static int clamp(int value, int length) {
+        return Math.max(0, Math.min(length - 1, value));
+    }
+
+    /** Fills, for {@code count} cells {@code stride} apart, the nearest open position at or before and at or after each. */
+    private void scan(int first, int stride, int count, int[] prev, int[] next) {
+        int open = -1;
+        for (int k = 0; k < count; k++) {
+            if (!board.isBlocked(first + k * stride)) open = k;
+            prev[k] = open;
+        }
+        if (open >= 0) anyOpen = true;
+        open = -1;
+        for (int k = count - 1; k >= 0; k--) {
+            if (!board.isBlocked(first + k * stride)) open = k;
+            next[k] = open;
+        }
+    }
+}
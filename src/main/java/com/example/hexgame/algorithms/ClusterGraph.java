@@ -0,0 +1,426 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IntRingBuffer;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Abstract graph of a board cut into square clusters, as in HPA*. Where two
+ * clusters touch, the open cell pairs across their boundary are grouped by
+ * the connected part of each cluster their two cells lie in, and every group
+ * gets a transition (its middle pair, or its first and last pair when it is
+ * long); the cells of all transitions are the graph's nodes. Inside a cluster
+ * each node knows its step count to every other node and to the nearest open
+ * border cell of the board, counted without leaving the cluster.
+ *
+ * <p>The pairs of a group are connected on both sides, so a route through any
+ * of them can be moved to a chosen one: the graph keeps every escape the board
+ * has. When cells change, only the parts and transitions of the clusters
+ * holding them and the distance tables of those clusters and their neighbors
+ * are rebuilt.
+ *
+ * <p>Follows one board; not thread-safe.
+ */
+final class ClusterGraph {
+    static final int INF = Integer.MAX_VALUE / 4;
+    /** Groups with more pairs than this get a transition at each end instead of one in the middle. */
+    private static final int LONG_GROUP = 6;
+
+    private final HexBoard board;
+    private final int size, clusterRows, clusterCols;
+    private final long[] knownBlocked;
+    private int knownVersion;
+
+    /** Per cluster: node cells, node-to-node steps (row-major), steps to the board border, neighbor cells per node. */
+    private final int[][] nodes;
+    private final int[] nodeCount;
+    private final int[][] dist;
+    private final int[][] exit;
+    private final int[][][] links;
+    private final int[][] linkCount;
+    /** Index of each cell among its cluster's nodes, or -1. */
+    private final int[] nodeIndex;
+    /** Connected part of each open cell within its cluster, numbered per cluster; -1 if blocked. */
+    private final int[] part;
+    /** Transitions per pair of touching clusters, as flat (cell, cell) pairs. */
+    private final Map<Long, int[]> transitions = new HashMap<>();
+
+    private final int[] mark;
+    private int stamp = 0;
+    private final int[] localDist, localParent;
+    private final IntRingBuffer queue = new IntRingBuffer(64);
+    private final int[] neighbors = new int[6];
+    private int[] edges = new int[32];
+    private int[] groupOf = new int[16];
+    private long[] groupKey = new long[8];
+    private int[] groupSize = new int[8];
+    private int[] dirty = new int[16];
+    private final int[] clusterMark;
+    private int clusterStamp = 0;
+
+    ClusterGraph(HexBoard board, int size) {
+        if (size < 2) throw new IllegalArgumentException("Invalid cluster size " + size);
+        this.board = board;
+        this.size = size;
+        this.clusterRows = (board.getRows() + size - 1) / size;
+        this.clusterCols = (board.getCols() + size - 1) / size;
+        int clusters = clusterRows * clusterCols;
+        this.nodes = new int[clusters][];
+        this.nodeCount = new int[clusters];
+        this.dist = new int[clusters][];
+        this.exit = new int[clusters][];
+        this.links = new int[clusters][][];
+        this.linkCount = new int[clusters][];
+        this.clusterMark = new int[clusters];
+        this.nodeIndex = new int[board.size()];
+        this.part = new int[board.size()];
+        this.mark = new int[board.size()];
+        this.localDist = new int[board.size()];
+        this.localParent = new int[board.size()];
+        this.knownBlocked = new long[board.getWordCount()];
+        Arrays.fill(nodeIndex, -1);
+        rebuild();
+    }
+
+    HexBoard getBoard() {
+        return board;
+    }
+
+    int clusterOf(int cell) {
+        return board.row(cell) / size * clusterCols + board.col(cell) / size;
+    }
+
+    int getClusterCount() {
+        return clusterRows * clusterCols;
+    }
+
+    int nodeCount(int cluster) {
+        return nodeCount[cluster];
+    }
+
+    int node(int cluster, int k) {
+        return nodes[cluster][k];
+    }
+
+    /** Index of {@code cell} among its cluster's nodes, or -1. */
+    int nodeIndex(int cell) {
+        return nodeIndex[cell];
+    }
+
+    /** Steps between nodes {@code a} and {@code b} of {@code cluster} inside it, or {@link #INF}. */
+    int distance(int cluster, int a, int b) {
+        return dist[cluster][a * nodeCount[cluster] + b];
+    }
+
+    /** Steps from node {@code k} of {@code cluster} to the board border inside it, or {@link #INF}. */
+    int exitDistance(int cluster, int k) {
+        return exit[cluster][k];
+    }
+
+    int linkCount(int cluster, int k) {
+        return linkCount[cluster][k];
+    }
+
+    /** Cell across the cluster boundary from node {@code k}; see {@link #linkCount}. */
+    int link(int cluster, int k, int l) {
+        return links[cluster][k][l];
+    }
+
+    /** Catches up with the board, rebuilding only the clusters around changed cells. */
+    void sync() {
+        if (board.getVersion() == knownVersion) return;
+        int dirtyCount = 0, seen = nextClusterStamp();
+        for (int w = 0; w < knownBlocked.length; w++) {
+            long diff = knownBlocked[w] ^ board.getBlockedWord(w);
+            while (diff != 0) {
+                int cluster = clusterOf((w << 6) + Long.numberOfTrailingZeros(diff));
+                diff &= diff - 1;
+                if (clusterMark[cluster] == seen) continue;
+                clusterMark[cluster] = seen;
+                if (dirtyCount == dirty.length) dirty = Arrays.copyOf(dirty, dirtyCount << 1);
+                dirty[dirtyCount++] = cluster;
+            }
+        }
+        if (dirtyCount > getClusterCount() / 4) {
+            rebuild();
+            return;
+        }
+        snapshot();
+        for (int d = 0; d < dirtyCount; d++) labelParts(dirty[d]);
+
+        int touched = nextClusterStamp();
+        for (int d = 0; d < dirtyCount; d++) {
+            int x = dirty[d];
+            for (int y : touchingClusters(x)) {
+                if (y < 0) continue;
+                // Scanned from the lower id, as in a rebuild, so the same transitions come out;
+                // a neighbor's table only goes stale if the transitions it shares moved
+                if (buildTransitions(Math.min(x, y), Math.max(x, y))) clusterMark[y] = touched;
+            }
+            clusterMark[x] = touched;
+        }
+        for (int cluster = 0; cluster < getClusterCount(); cluster++) {
+            if (clusterMark[cluster] == touched) buildCluster(cluster);
+        }
+    }
+
+    /** Rebuilds the whole graph from the board. */
+    void rebuild() {
+        snapshot();
+        transitions.clear();
+        for (int cluster = 0; cluster < getClusterCount(); cluster++) labelParts(cluster);
+        for (int x = 0; x < getClusterCount(); x++) {
+            for (int y : touchingClusters(x)) {
+                if (y > x) buildTransitions(x, y);
+            }
+        }
+        for (int cluster = 0; cluster < getClusterCount(); cluster++) buildCluster(cluster);
+    }
+
+    /**
+     * BFS from {@code from} that stays inside its cluster. Stops at
+     * {@code target}, or at the first board border cell when {@code target}
+     * is -1, or covers the whole reachable cluster when it is -2. Returns the
+     * cell it stopped at, or -1; {@link #stepsTo} and {@link #copyLocalPath}
+     * read the result.
+     */
+    int searchCluster(int from, int target) {
+        int cluster = clusterOf(from);
+        int seen = nextStamp();
+        queue.clear();
+        mark[from] = seen;
+        localDist[from] = 0;
+        localParent[from] = -1;
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int cur = queue.poll();
+            if (cur == target || (target == -1 && board.isAtBorder(cur))) return cur;
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int next = neighbors[k];
+                if (mark[next] == seen || board.isBlocked(next) || clusterOf(next) != cluster) continue;
+                mark[next] = seen;
+                localDist[next] = localDist[cur] + 1;
+                localParent[next] = cur;
+                queue.add(next);
+            }
+        }
+        return -1;
+    }
+
+    /** Steps to {@code cell} in the last {@link #searchCluster}, or {@link #INF} if it was not reached. */
+    int stepsTo(int cell) {
+        return mark[cell] == stamp ? localDist[cell] : INF;
+    }
+
+    /** Fewest steps to a board border cell of {@code cluster} in the last search, or {@link #INF}. */
+    int nearestBorder(int cluster) {
+        int top = cluster / clusterCols * size, left = cluster % clusterCols * size;
+        int bottom = Math.min(board.getRows(), top + size), right = Math.min(board.getCols(), left + size);
+        int best = INF;
+        if (top == 0) for (int j = left; j < right; j++) best = Math.min(best, stepsTo(board.index(0, j)));
+        if (bottom == board.getRows()) for (int j = left; j < right; j++) best = Math.min(best, stepsTo(board.index(bottom - 1, j)));
+        if (left == 0) for (int i = top; i < bottom; i++) best = Math.min(best, stepsTo(board.index(i, 0)));
+        if (right == board.getCols()) for (int i = top; i < bottom; i++) best = Math.min(best, stepsTo(board.index(i, right - 1)));
+        return best;
+    }
+
+    /** Appends the last search's path to {@code end}, without its first cell, at {@code out[length]}. */
+    int[] copyLocalPath(int end, int[] out, int length) {
+        int steps = localDist[end];
+        if (length + steps > out.length) out = Arrays.copyOf(out, Math.max(out.length << 1, length + steps));
+        for (int cell = end, k = length + steps - 1; k >= length; cell = localParent[cell], k--) out[k] = cell;
+        return out;
+    }
+
+    private void snapshot() {
+        for (int w = 0; w < knownBlocked.length; w++) knownBlocked[w] = board.getBlockedWord(w);
+        knownVersion = board.getVersion();
+    }
+
+    /** The up to eight clusters around {@code x}; -1 where the board ends. */
+    private int[] touchingClusters(int x) {
+        int r = x / clusterCols, c = x % clusterCols;
+        int[] result = new int[8];
+        int k = 0;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                if (dr == 0 && dc == 0) continue;
+                int rr = r + dr, cc = c + dc;
+                result[k++] = rr < 0 || rr >= clusterRows || cc < 0 || cc >= clusterCols ? -1 : rr * clusterCols + cc;
+            }
+        }
+        return result;
+    }
+
+    private static long pairKey(int x, int y) {
+        return (long) Math.min(x, y) << 32 | Math.max(x, y);
+    }
+
+    /**
+     * Finds the open pairs across the boundary of {@code x} and {@code y},
+     * walking {@code x} in row order, and groups them by the parts their two
+     * cells belong to. Returns whether the transitions changed.
+     */
+    private boolean buildTransitions(int x, int y) {
+        int edgeCount = 0;
+        int top = x / clusterCols * size, left = x % clusterCols * size;
+        int bottom = Math.min(board.getRows(), top + size), right = Math.min(board.getCols(), left + size);
+        for (int i = top; i < bottom; i++) {
+            for (int j = left; j < right; j++) {
+                int u = board.index(i, j);
+                // Only cells on the cluster's rim can have neighbors outside it
+                if ((i != top && i != bottom - 1 && j != left && j != right - 1) || board.isBlocked(u)) continue;
+                int count = StrategyUtils.getNeighbors(board, u, neighbors);
+                for (int k = 0; k < count; k++) {
+                    int v = neighbors[k];
+                    if (board.isBlocked(v) || clusterOf(v) != y) continue;
+                    if (edgeCount + 2 > edges.length) edges = Arrays.copyOf(edges, edges.length << 1);
+                    edges[edgeCount++] = u;
+                    edges[edgeCount++] = v;
+                }
+            }
+        }
+        if (edgeCount == 0) return transitions.remove(pairKey(x, y)) != null;
+
+        // Parts are few, so groups are found by a linear scan
+        int pairs = edgeCount / 2, groups = 0;
+        if (groupOf.length < pairs) groupOf = new int[Math.max(pairs, groupOf.length << 1)];
+        for (int e = 0; e < pairs; e++) {
+            long key = (long) part[edges[2 * e]] << 32 | part[edges[2 * e + 1]];
+            int g = 0;
+            while (g < groups && groupKey[g] != key) g++;
+            if (g == groups) {
+                if (groups == groupKey.length) {
+                    groupKey = Arrays.copyOf(groupKey, groups << 1);
+                    groupSize = Arrays.copyOf(groupSize, groups << 1);
+                }
+                groupKey[groups] = key;
+                groupSize[groups++] = 0;
+            }
+            groupOf[e] = g;
+            groupSize[g]++;
+        }
+
+        int[] chosen = new int[4 * groups];
+        int chosenCount = 0;
+        for (int g = 0; g < groups; g++) {
+            boolean ends = groupSize[g] > LONG_GROUP;
+            int middle = groupSize[g] / 2, seen = 0, last = -1;
+            for (int e = 0; e < pairs; e++) {
+                if (groupOf[e] != g) continue;
+                if (ends ? seen == 0 : seen == middle) {
+                    chosen[chosenCount++] = edges[2 * e];
+                    chosen[chosenCount++] = edges[2 * e + 1];
+                }
+                seen++;
+                last = e;
+            }
+            if (ends) {
+                chosen[chosenCount++] = edges[2 * last];
+                chosen[chosenCount++] = edges[2 * last + 1];
+            }
+        }
+        int[] result = Arrays.copyOf(chosen, chosenCount);
+        return !Arrays.equals(result, transitions.put(pairKey(x, y), result));
+    }
+
+    /** Numbers the connected parts of the open cells of {@code cluster}. */
+    private void labelParts(int cluster) {
+        int top = cluster / clusterCols * size, left = cluster % clusterCols * size;
+        int bottom = Math.min(board.getRows(), top + size), right = Math.min(board.getCols(), left + size);
+        for (int i = top; i < bottom; i++) {
+            for (int j = left; j < right; j++) part[board.index(i, j)] = -1;
+        }
+        int parts = 0;
+        for (int i = top; i < bottom; i++) {
+            for (int j = left; j < right; j++) {
+                int cell = board.index(i, j);
+                if (part[cell] >= 0 || board.isBlocked(cell)) continue;
+                part[cell] = parts;
+                queue.clear();
+                queue.add(cell);
+                while (!queue.isEmpty()) {
+                    int cur = queue.poll();
+                    int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+                    for (int k = 0; k < count; k++) {
+                        int next = neighbors[k];
+                        if (part[next] >= 0 || board.isBlocked(next) || clusterOf(next) != cluster) continue;
+                        part[next] = parts;
+                        queue.add(next);
+                    }
+                }
+                parts++;
+            }
+        }
+    }
+
+    /** Collects the nodes of {@code cluster} from its transitions and measures the steps between them. */
+    private void buildCluster(int cluster) {
+        int[] old = nodes[cluster];
+        for (int k = 0; k < nodeCount[cluster]; k++) nodeIndex[old[k]] = -1;
+        int count = 0;
+        int[] cells = old == null ? new int[8] : old;
+        int[][] nodeLinks = links[cluster] == null ? new int[8][] : links[cluster];
+        int[] nodeLinkCount = linkCount[cluster] == null ? new int[8] : linkCount[cluster];
+
+        for (int y : touchingClusters(cluster)) {
+            if (y < 0) continue;
+            int[] pairs = transitions.get(pairKey(cluster, y));
+            if (pairs == null) continue;
+            for (int p = 0; p < pairs.length; p += 2) {
+                boolean first = clusterOf(pairs[p]) == cluster;
+                int mine = first ? pairs[p] : pairs[p + 1], other = first ? pairs[p + 1] : pairs[p];
+                int k = nodeIndex[mine];
+                if (k < 0) {
+                    if (count == cells.length) {
+                        cells = Arrays.copyOf(cells, count << 1);
+                        nodeLinks = Arrays.copyOf(nodeLinks, count << 1);
+                        nodeLinkCount = Arrays.copyOf(nodeLinkCount, count << 1);
+                    }
+                    k = count++;
+                    cells[k] = mine;
+                    nodeIndex[mine] = k;
+                    nodeLinkCount[k] = 0;
+                    if (nodeLinks[k] == null) nodeLinks[k] = new int[2];
+                }
+                if (nodeLinkCount[k] == nodeLinks[k].length) nodeLinks[k] = Arrays.copyOf(nodeLinks[k], nodeLinkCount[k] << 1);
+                nodeLinks[k][nodeLinkCount[k]++] = other;
+            }
+        }
+
+        int[] steps = dist[cluster] != null && dist[cluster].length >= count * count ? dist[cluster] : new int[count * count];
+        int[] exits = exit[cluster] != null && exit[cluster].length >= count ? exit[cluster] : new int[count];
+        for (int k = 0; k < count; k++) {
+            searchCluster(cells[k], -2);
+            for (int j = 0; j < count; j++) steps[k * count + j] = stepsTo(cells[j]);
+            exits[k] = nearestBorder(cluster);
+        }
+        nodes[cluster] = cells;
+        nodeCount[cluster] = count;
+        dist[cluster] = steps;
+        exit[cluster] = exits;
+        links[cluster] = nodeLinks;
+        linkCount[cluster] = nodeLinkCount;
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    private int nextClusterStamp() {
+        if (++clusterStamp == 0) {
+            Arrays.fill(clusterMark, 0);
+            clusterStamp = 1;
+        }
+        return clusterStamp;
+    }
+}
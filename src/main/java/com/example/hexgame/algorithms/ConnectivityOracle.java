@@ -0,0 +1,361 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IntRingBuffer;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+
+/**
+ * Labels every open cell with its connected region and keeps, per region, its
+ * size and how many open border cells it holds. Whether a cell can still reach
+ * the border, and how big its region is, are then array lookups with no
+ * pathfinding.
+ *
+ * <p>Blocking a cell only costs work when it might split its region. If its
+ * open neighbors form one unbroken arc around it they stay connected and
+ * nothing changes; otherwise one search per arc runs in lockstep until all but
+ * one have run dry, and only the cells of the finished, smaller sides are
+ * relabelled. Reopening a cell merges the regions around it into the largest.
+ *
+ * <p>Not thread-safe; it follows a single board.
+ */
+public class ConnectivityOracle {
+    public static final int NONE = -1;
+
+    /** Ring order of the six neighbors, clockwise from upper left, per row parity. */
+    private static final int[] RING_DI = {-1, -1, 0, 1, 1, 0};
+    private static final int[][] RING_DJ = {{-1, 0, 1, 0, -1, -1}, {0, 1, 1, 1, 0, -1}};
+
+    private final HexBoard board;
+    private final int[] label;
+    private final int[] sizes;
+    private final int[] borders;
+    private final int[] freeIds;
+    private int freeCount, nextId;
+    private final long[] knownBlocked;
+    private int knownVersion;
+
+    private final int[] mark;
+    private final int[] owner;
+    private int stamp = 0;
+    private final IntRingBuffer[] queues = new IntRingBuffer[3];
+    private final int[][] visited = new int[3][16];
+    private final int[] visitedCount = new int[3];
+    private final int[] borderCount = new int[3];
+    private final int[] group = new int[3];
+    private final int[] starts = new int[3];
+    private final int[] neighbors = new int[6];
+    private final int[] around = new int[6];
+
+    public ConnectivityOracle(HexBoard board) {
+        this.board = board;
+        int n = board.size();
+        this.label = new int[n];
+        this.sizes = new int[n];
+        this.borders = new int[n];
+        this.freeIds = new int[n];
+        this.mark = new int[n];
+        this.owner = new int[n];
+        this.knownBlocked = new long[board.getWordCount()];
+        for (int s = 0; s < queues.length; s++) queues[s] = new IntRingBuffer(64);
+        rebuild();
+    }
+
+    public HexBoard getBoard() {
+        return board;
+    }
+
+    public void rebuild() {
+        Arrays.fill(label, NONE);
+        freeCount = nextId = 0;
+        for (int w = 0; w < knownBlocked.length; w++) knownBlocked[w] = board.getBlockedWord(w);
+        knownVersion = board.getVersion();
+
+        IntRingBuffer queue = queues[0];
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (label[cell] != NONE || !isOpen(cell)) continue;
+            int id = nextId++;
+            int size = 0, border = 0;
+            label[cell] = id;
+            queue.clear();
+            queue.add(cell);
+            while (!queue.isEmpty()) {
+                int cur = queue.poll();
+                size++;
+                if (board.isAtBorder(cur)) border++;
+                int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+                for (int k = 0; k < count; k++) {
+                    int next = neighbors[k];
+                    if (label[next] == NONE && isOpen(next)) {
+                        label[next] = id;
+                        queue.add(next);
+                    }
+                }
+            }
+            sizes[id] = size;
+            borders[id] = border;
+        }
+    }
+
+    /** Applies a change just made to {@code cell}; falls back to {@link #sync} if others were missed. */
+    public void cellChanged(int cell) {
+        if (board.getVersion() != knownVersion + 1) {
+            sync();
+            return;
+        }
+        long bit = 1L << cell;
+        knownVersion++;
+        if (((knownBlocked[cell >>> 6] & bit) != 0) == board.isBlocked(cell)) return;
+        knownBlocked[cell >>> 6] ^= bit;
+        if (isOpen(cell)) unblock(cell);
+        else block(cell);
+    }
+
+    /**
+     * Catches up with changes that were not reported through
+     * {@link #cellChanged}; many at once, such as a cleared board, rebuild.
+     */
+    public void sync() {
+        if (board.getVersion() == knownVersion) return;
+        int changed = 0;
+        for (int w = 0; w < knownBlocked.length; w++) {
+            changed += Long.bitCount(knownBlocked[w] ^ board.getBlockedWord(w));
+        }
+        if (changed > Math.max(8, board.size() >> 6)) {
+            rebuild();
+            return;
+        }
+        for (int w = 0; w < knownBlocked.length; w++) {
+            long diff = knownBlocked[w] ^ board.getBlockedWord(w);
+            while (diff != 0) {
+                long bit = diff & -diff;
+                int cell = (w << 6) + Long.numberOfTrailingZeros(bit);
+                knownBlocked[w] ^= bit;
+                if (isOpen(cell)) unblock(cell);
+                else block(cell);
+                diff ^= bit;
+            }
+        }
+        knownVersion = board.getVersion();
+    }
+
+    /** Region id of {@code cell}, or {@link #NONE} if it is blocked. Ids change as regions split and merge. */
+    public int regionOf(int cell) {
+        sync();
+        return label[cell];
+    }
+
+    /** Open cells in the region of {@code cell}; 0 if it is blocked. */
+    public int regionSize(int cell) {
+        int id = regionOf(cell);
+        return id == NONE ? 0 : sizes[id];
+    }
+
+    /** Whether an open path leads from {@code cell} to the border. */
+    public boolean touchesBorder(int cell) {
+        int id = regionOf(cell);
+        return id != NONE && borders[id] > 0;
+    }
+
+    /** Whether {@code a} and {@code b} are open and in the same region. */
+    public boolean connected(int a, int b) {
+        int id = regionOf(a);
+        return id != NONE && id == label[b];
+    }
+
+    public int getRegionCount() {
+        sync();
+        return nextId - freeCount;
+    }
+
+    private void block(int cell) {
+        int id = label[cell];
+        label[cell] = NONE;
+        if (--sizes[id] == 0) {
+            freeIds[freeCount++] = id;
+            return;
+        }
+        if (board.isAtBorder(cell)) borders[id]--;
+        int arcs = openArcs(cell);
+        if (arcs > 1) split(id, arcs);
+    }
+
+    /**
+     * Walks the ring of neighbors around {@code cell} and stores one open cell
+     * per unbroken arc in {@link #starts}; adjacent ring cells touch, so each
+     * arc is connected on its own. Returns the number of arcs.
+     */
+    private int openArcs(int cell) {
+        int rows = board.getRows(), cols = board.getCols();
+        int i = board.row(cell), j = board.col(cell);
+        int[] dj = RING_DJ[i & 1];
+        int ring = 0;
+        for (int k = 0; k < 6; k++) {
+            int ni = i + RING_DI[k], nj = j + dj[k];
+            if (ni >= 0 && ni < rows && nj >= 0 && nj < cols && isOpen(board.index(ni, nj))) ring |= 1 << k;
+        }
+        if (ring == 0x3F) return 1;
+        // An arc begins at every open cell whose predecessor on the ring is closed
+        int begins = ring & ~((ring << 1 | ring >>> 5) & 0x3F);
+        int arcs = 0;
+        while (begins != 0) {
+            int k = Integer.numberOfTrailingZeros(begins);
+            starts[arcs++] = board.index(i + RING_DI[k], j + dj[k]);
+            begins &= begins - 1;
+        }
+        return arcs;
+    }
+
+    /**
+     * One BFS per arc, advanced a cell at a time in turn. Searches that meet
+     * are merged. A group whose queues all run dry has covered a whole region;
+     * once at most one group is still running, every finished group except the
+     * kept one is given a fresh id.
+     */
+    private void split(int id, int arcs) {
+        int seen = nextStamp();
+        for (int s = 0; s < arcs; s++) {
+            int start = starts[s];
+            queues[s].clear();
+            queues[s].add(start);
+            mark[start] = seen;
+            owner[start] = s;
+            group[s] = s;
+            visited[s][0] = start;
+            visitedCount[s] = 1;
+            borderCount[s] = 0;
+        }
+
+        while (true) {
+            for (int s = 0; s < arcs; s++) {
+                if (queues[s].isEmpty()) continue;
+                int cur = queues[s].poll();
+                if (board.isAtBorder(cur)) borderCount[s]++;
+                int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+                for (int k = 0; k < count; k++) {
+                    int next = neighbors[k];
+                    if (!isOpen(next)) continue;
+                    if (mark[next] != seen) {
+                        mark[next] = seen;
+                        owner[next] = s;
+                        queues[s].add(next);
+                        if (visitedCount[s] == visited[s].length) visited[s] = Arrays.copyOf(visited[s], visitedCount[s] << 1);
+                        visited[s][visitedCount[s]++] = next;
+                    } else {
+                        int a = root(s), b = root(owner[next]);
+                        if (a != b) group[Math.max(a, b)] = Math.min(a, b);
+                    }
+                }
+            }
+
+            int groups = 0, running = 0;
+            for (int s = 0; s < arcs; s++) {
+                if (root(s) != s) continue;
+                groups++;
+                if (isRunning(s, arcs)) running++;
+            }
+            if (groups == 1) return;
+            if (running <= 1) break;
+        }
+
+        // Keep the id on the group still running, or else on the largest
+        int keep = -1, keepSize = -1;
+        for (int s = 0; s < arcs; s++) {
+            if (root(s) != s) continue;
+            int size = isRunning(s, arcs) ? Integer.MAX_VALUE : groupTotal(visitedCount, s, arcs);
+            if (size > keepSize) {
+                keep = s;
+                keepSize = size;
+            }
+        }
+        for (int g = 0; g < arcs; g++) {
+            if (root(g) != g || g == keep) continue;
+            int fresh = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+            int size = groupTotal(visitedCount, g, arcs), border = groupTotal(borderCount, g, arcs);
+            for (int s = 0; s < arcs; s++) {
+                if (root(s) != g) continue;
+                for (int v = 0; v < visitedCount[s]; v++) label[visited[s][v]] = fresh;
+            }
+            sizes[fresh] = size;
+            borders[fresh] = border;
+            sizes[id] -= size;
+            borders[id] -= border;
+        }
+    }
+
+    private boolean isRunning(int g, int arcs) {
+        for (int s = 0; s < arcs; s++) {
+            if (root(s) == g && !queues[s].isEmpty()) return true;
+        }
+        return false;
+    }
+
+    private int groupTotal(int[] values, int g, int arcs) {
+        int total = 0;
+        for (int s = 0; s < arcs; s++) {
+            if (root(s) == g) total += values[s];
+        }
+        return total;
+    }
+
+    private int root(int s) {
+        while (group[s] != s) s = group[s];
+        return s;
+    }
+
+    /** Joins the regions around a reopened cell, relabelling all but the largest. */
+    private void unblock(int cell) {
+        int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+        int keep = NONE;
+        for (int k = 0; k < count; k++) {
+            int id = label[neighbors[k]];
+            if (id != NONE && (keep == NONE || sizes[id] > sizes[keep])) keep = id;
+        }
+        if (keep == NONE) {
+            keep = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+            sizes[keep] = 0;
+            borders[keep] = 0;
+        }
+        label[cell] = keep;
+        sizes[keep]++;
+        if (board.isAtBorder(cell)) borders[keep]++;
+
+        IntRingBuffer queue = queues[0];
+        for (int k = 0; k < count; k++) {
+            int start = neighbors[k];
+            int id = label[start];
+            if (id == NONE || id == keep) continue;
+            sizes[keep] += sizes[id];
+            borders[keep] += borders[id];
+            freeIds[freeCount++] = id;
+            label[start] = keep;
+            queue.clear();
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                int cur = queue.poll();
+                int found = StrategyUtils.getNeighbors(board, cur, around);
+                for (int d = 0; d < found; d++) {
+                    int next = around[d];
+                    if (label[next] == id) {
+                        label[next] = keep;
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Open as far as the labels know; unsynced board changes are applied one at a time. */
+    private boolean isOpen(int cell) {
+        return (knownBlocked[cell >>> 6] & (1L << cell)) == 0;
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * Cheapest escape by terrain cost. On a board without terrain every step
+ * costs one, and the plain BFS kernel gives the same answer faster.
+ */
+public class DijkstraStrategy extends KernelStrategy {
+
+    protected SearchKernels.Kind kind(HexBoard board) {
+        return board.hasTerrain() ? SearchKernels.Kind.DIJKSTRA : SearchKernels.Kind.BFS;
+    }
+}
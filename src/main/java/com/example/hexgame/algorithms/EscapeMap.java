@@ -0,0 +1,214 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IndexedMinHeap;
+import com.example.hexgame.utils.IntRingBuffer;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+
+/**
+ * Distance from every cell to the nearest open border cell, built with one
+ * multi-source BFS from the border. Blocking a cell only re-derives the cells
+ * whose shortest escape ran through it, after which escape distances, next
+ * steps and paths are plain lookups.
+ *
+ * <p>Not thread-safe; it follows a single board.
+ */
+public class EscapeMap {
+    public static final int UNREACHABLE = -1;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final HexBoard board;
+    private final int[] dist;
+    private final int[] stamp;
+    private int generation = 0;
+    private final long[] knownBlocked;
+    private int knownVersion;
+    private final IntRingBuffer queue = new IntRingBuffer(64);
+    private final int[] neighbors = new int[6];
+    private int[] affected = new int[16];
+    private IndexedMinHeap heap;
+
+    public EscapeMap(HexBoard board) {
+        this.board = board;
+        this.dist = new int[board.size()];
+        this.stamp = new int[board.size()];
+        this.knownBlocked = new long[board.getWordCount()];
+        rebuild();
+    }
+
+    public HexBoard getBoard() {
+        return board;
+    }
+
+    public void rebuild() {
+        Arrays.fill(dist, INF);
+        queue.clear();
+        for (int w = 0; w < knownBlocked.length; w++) knownBlocked[w] = board.getBlockedWord(w);
+        knownVersion = board.getVersion();
+
+        int rowNum = board.getRows(), colNum = board.getCols();
+        for (int i = 0; i < rowNum; i++) {
+            int step = (i == 0 || i == rowNum - 1) ? 1 : Math.max(1, colNum - 1);
+            for (int j = 0; j < colNum; j += step) {
+                int cell = board.index(i, j);
+                if (!board.isBlocked(cell)) {
+                    dist[cell] = 0;
+                    queue.add(cell);
+                }
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int cur = queue.poll();
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (dist[neighbor] == INF && !board.isBlocked(neighbor)) {
+                    dist[neighbor] = dist[cur] + 1;
+                    queue.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /** Applies a change just made to {@code cell}; blocks are repaired in place, reopened cells rebuild. */
+    public void cellChanged(int cell) {
+        long bit = 1L << cell;
+        boolean wasBlocked = (knownBlocked[cell >>> 6] & bit) != 0;
+        boolean blocked = board.isBlocked(cell);
+        knownVersion++;
+        if (wasBlocked && !blocked) {
+            rebuild();
+            return;
+        }
+        if (!wasBlocked && blocked) {
+            knownBlocked[cell >>> 6] |= bit;
+            block(cell);
+        }
+        if (board.getVersion() != knownVersion) sync();
+    }
+
+    /** Catches up with changes that were not reported through {@link #cellChanged}. */
+    public void sync() {
+        if (board.getVersion() == knownVersion) return;
+        for (int w = 0; w < knownBlocked.length; w++) {
+            if ((knownBlocked[w] & ~board.getBlockedWord(w)) != 0) {
+                rebuild();
+                return;
+            }
+        }
+        for (int w = 0; w < knownBlocked.length; w++) {
+            long added = board.getBlockedWord(w) & ~knownBlocked[w];
+            knownBlocked[w] |= added;
+            while (added != 0) {
+                block((w << 6) + Long.numberOfTrailingZeros(added));
+                added &= added - 1;
+            }
+        }
+        knownVersion = board.getVersion();
+    }
+
+    /** Steps from {@code cell} to the nearest open border cell, or {@link #UNREACHABLE}. */
+    public int distance(int cell) {
+        sync();
+        return dist[cell] == INF ? UNREACHABLE : dist[cell];
+    }
+
+    /** Neighbor one step closer to the border, or -1 at the border or when trapped. */
+    public int nextStep(int cell) {
+        sync();
+        int d = dist[cell];
+        if (d == INF || d == 0) return -1;
+        int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+        for (int k = 0; k < count; k++) {
+            if (dist[neighbors[k]] == d - 1) return neighbors[k];
+        }
+        return -1;
+    }
+
+    /** A shortest escape path starting at {@code cell}; empty when there is none. */
+    public int[] path(int cell) {
+        sync();
+        if (dist[cell] == INF) return new int[0];
+        int[] path = new int[dist[cell] + 1];
+        path[0] = cell;
+        for (int k = 1; k < path.length; k++) {
+            path[k] = nextStep(path[k - 1]);
+        }
+        return path;
+    }
+
+    private void block(int cell) {
+        int d0 = dist[cell];
+        dist[cell] = INF;
+        if (d0 == INF) return;
+
+        // Phase 1: collect cells that lost every neighbor one step closer to the border
+        if (++generation == 0) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        queue.clear();
+        enqueueChildren(cell, d0);
+        int affectedCount = 0;
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            int dv = dist[v];
+            if (hasSupport(v, dv)) continue;
+
+            dist[v] = INF;
+            if (affectedCount == affected.length) affected = Arrays.copyOf(affected, affectedCount << 1);
+            affected[affectedCount++] = v;
+            enqueueChildren(v, dv);
+        }
+        if (affectedCount == 0) return;
+
+        // Phase 2: settle them again from the unaffected cells around them
+        if (heap == null) heap = new IndexedMinHeap(board.size());
+        for (int a = 0; a < affectedCount; a++) {
+            int v = affected[a];
+            int best = INF;
+            int count = StrategyUtils.getNeighbors(board, v, neighbors);
+            for (int k = 0; k < count; k++) {
+                int u = neighbors[k];
+                if (dist[u] != INF && dist[u] + 1 < best) best = dist[u] + 1;
+            }
+            if (best != INF) heap.put(v, best);
+        }
+        while (!heap.isEmpty()) {
+            int d = (int) heap.peekKey();
+            int v = heap.poll();
+            dist[v] = d;
+            int count = StrategyUtils.getNeighbors(board, v, neighbors);
+            for (int k = 0; k < count; k++) {
+                int w = neighbors[k];
+                if (dist[w] == INF && !board.isBlocked(w)
+                        && (!heap.contains(w) || heap.keyOf(w) > d + 1)) {
+                    heap.put(w, d + 1);
+                }
+            }
+        }
+    }
+
+    private void enqueueChildren(int v, int dv) {
+        int count = StrategyUtils.getNeighbors(board, v, neighbors);
+        for (int k = 0; k < count; k++) {
+            int w = neighbors[k];
+            if (dist[w] == dv + 1 && stamp[w] != generation) {
+                stamp[w] = generation;
+                queue.add(w);
+            }
+        }
+    }
+
+    private boolean hasSupport(int v, int dv) {
+        if (dv == 0) return true;
+        int count = StrategyUtils.getNeighbors(board, v, neighbors);
+        for (int k = 0; k < count; k++) {
+            if (dist[neighbors[k]] == dv - 1) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * The cat reading its path off an {@link EscapeMap}: every open cell already
+ * knows its distance to the border, so a query walks downhill instead of
+ * searching. Blocks are repaired in place between calls, which suits a game,
+ * where the trapper only ever adds obstacles.
+ *
+ * <p>An instance follows one board at a time and is not thread-safe. There is
+ * no search to show, so the exploration order is the path itself.
+ */
+public class EscapeMapStrategy implements PathfindingStrategy {
+    private EscapeMap map;
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        int[] path = findPathOnly(board, start);
+        return new BoardPathResult(path.clone(), path);
+    }
+
+    public int[] findPathOnly(HexBoard board, int start) {
+        return follow(board).path(start);
+    }
+
+    public int findNextStep(HexBoard board, int start) {
+        EscapeMap map = follow(board);
+        int distance = map.distance(start);
+        if (distance <= 0) return distance == 0 ? start : -1;
+        return map.nextStep(start);
+    }
+
+    public int findDistance(HexBoard board, int start) {
+        return follow(board).distance(start);
+    }
+
+    private EscapeMap follow(HexBoard board) {
+        if (map == null || map.getBoard() != board) map = new EscapeMap(board);
+        return map;
+    }
+}
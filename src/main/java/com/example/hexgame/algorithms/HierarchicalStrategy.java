@@ -0,0 +1,182 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IntBucketQueue;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical A* (HPA*) for large boards. The board is cut into clusters
+ * ({@link ClusterGraph}); a query links the start to the transitions of its
+ * own cluster, runs A* over the transitions, where the border is one more
+ * node reached through each cluster's exit distances, and then refines every
+ * abstract hop with a BFS confined to one cluster. The exploration order
+ * lists the abstract nodes expanded.
+ *
+ * <p>Paths are found whenever one exists but can be a few steps longer than
+ * the shortest, since routes are forced through the chosen transitions.
+ * Blocking a cell rebuilds only the clusters around it on the next call.
+ *
+ * <p>An instance follows one board at a time and is not thread-safe.
+ */
+public class HierarchicalStrategy implements PathfindingStrategy {
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+    private static final int INF = ClusterGraph.INF;
+
+    private final int clusterSize;
+    private ClusterGraph graph;
+    private final BorderDistance border = new BorderDistance();
+    private final IntBucketQueue open;
+    private int[] mark = new int[0], cost = new int[0], estimate = new int[0], parent = new int[0];
+    private int stamp = 0;
+    private int[] startSteps = new int[16];
+    private int[] hops = new int[16];
+    private int[] expanded = new int[16];
+    private int expandedCount;
+
+    public HierarchicalStrategy() {
+        this(DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalStrategy(int clusterSize) {
+        if (clusterSize < 2) throw new IllegalArgumentException("Invalid cluster size " + clusterSize);
+        this.clusterSize = clusterSize;
+        // No abstract hop is longer than a cluster has cells, and a consistent heuristic
+        // raises the key by at most twice the hop
+        this.open = new IntBucketQueue(2 * clusterSize * clusterSize);
+    }
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        int[] path = search(board, start);
+        return new BoardPathResult(Arrays.copyOf(expanded, expandedCount), path);
+    }
+
+    public int[] findPathOnly(HexBoard board, int start) {
+        return search(board, start);
+    }
+
+    private int[] search(HexBoard board, int start) {
+        expandedCount = 0;
+        if (board.isAtBorder(start)) {
+            record(start);
+            return new int[]{start};
+        }
+        if (graph == null || graph.getBoard() != board) {
+            graph = new ClusterGraph(board, clusterSize);
+            int cells = board.size() + 1;
+            mark = new int[cells];
+            cost = new int[cells];
+            estimate = new int[cells];
+            parent = new int[cells];
+            stamp = 0;
+        } else {
+            graph.sync();
+        }
+        border.update(board);
+        if (!border.hasOpenBorder()) return new int[0];
+
+        int goal = abstractSearch(board, start);
+        return goal < 0 ? new int[0] : refine(start, goal);
+    }
+
+    /** A* from {@code start} to the virtual border node; returns that node's id, or -1. */
+    private int abstractSearch(HexBoard board, int start) {
+        int goal = board.size();
+        int seen = nextStamp();
+        open.clear();
+
+        // The start joins the graph through the nodes of its own cluster
+        int home = graph.clusterOf(start);
+        int homeNodes = graph.nodeCount(home);
+        graph.searchCluster(start, -2);
+        if (startSteps.length < homeNodes) startSteps = new int[homeNodes];
+        for (int k = 0; k < homeNodes; k++) startSteps[k] = graph.stepsTo(graph.node(home, k));
+        int startExit = graph.nearestBorder(home);
+
+        mark[start] = seen;
+        cost[start] = 0;
+        parent[start] = -1;
+        estimate[start] = border.get(start);
+        estimate[goal] = 0;
+        open.push(estimate[start], start);
+
+        while (!open.isEmpty()) {
+            int f = open.peekKey();
+            int cur = open.poll();
+            if (cost[cur] + estimate[cur] != f) continue;
+            if (cur == goal) return goal;
+            record(cur);
+
+            int cluster = graph.clusterOf(cur);
+            int k = graph.nodeIndex(cur);
+            if (cur == start) {
+                for (int j = 0; j < homeNodes; j++) relax(cur, graph.node(home, j), startSteps[j], seen);
+                relax(cur, goal, startExit, seen);
+                // A start that is itself a node also keeps its links below
+                if (k < 0) continue;
+            } else {
+                int count = graph.nodeCount(cluster);
+                for (int j = 0; j < count; j++) {
+                    if (j != k) relax(cur, graph.node(cluster, j), graph.distance(cluster, k, j), seen);
+                }
+                relax(cur, goal, graph.exitDistance(cluster, k), seen);
+            }
+            for (int l = 0; l < graph.linkCount(cluster, k); l++) relax(cur, graph.link(cluster, k, l), 1, seen);
+        }
+        return -1;
+    }
+
+    private void relax(int from, int to, int steps, int seen) {
+        if (steps >= INF) return;
+        int newCost = cost[from] + steps;
+        if (mark[to] == seen) {
+            if (newCost >= cost[to]) return;
+        } else {
+            mark[to] = seen;
+            if (to < parent.length - 1) estimate[to] = border.get(to);
+        }
+        cost[to] = newCost;
+        parent[to] = from;
+        open.push(newCost + estimate[to], to);
+    }
+
+    /** Expands each abstract hop into cells with a BFS inside one cluster. */
+    private int[] refine(int start, int goal) {
+        int hopCount = 0;
+        for (int node = parent[goal]; node != -1; node = parent[node]) {
+            if (hopCount == hops.length) hops = Arrays.copyOf(hops, hopCount << 1);
+            hops[hopCount++] = node;
+        }
+
+        int[] path = new int[Math.max(16, cost[goal] + 1)];
+        path[0] = start;
+        int length = 1;
+        for (int h = hopCount - 1; h >= 0; h--) {
+            int from = hops[h];
+            int to = h > 0 ? hops[h - 1] : -1;
+            if (to >= 0 && graph.clusterOf(from) != graph.clusterOf(to)) {
+                // A link between two clusters is a single step
+                if (length == path.length) path = Arrays.copyOf(path, length << 1);
+                path[length++] = to;
+                continue;
+            }
+            int end = graph.searchCluster(from, to);
+            path = graph.copyLocalPath(end, path, length);
+            length += graph.stepsTo(end);
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    private void record(int cell) {
+        if (expandedCount == expanded.length) expanded = Arrays.copyOf(expanded, expandedCount << 1);
+        expanded[expandedCount++] = cell;
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IndexedMinHeap;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.util.Arrays;
+
+/**
+ * D* Lite searching backwards from every open border cell to the cat. The
+ * search state survives between calls, so after a cell changes only the part
+ * of the search that depended on it is repaired.
+ *
+ * <p>An instance follows one board at a time and is not thread-safe. Changes
+ * reported through {@link #cellChanged} are applied directly; any others are
+ * found on the next call by diffing the blocked bitset.
+ */
+public class IncrementalPathfindingStrategy implements PathfindingStrategy {
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    private HexBoard board;
+    private int knownVersion;
+    private long[] knownBlocked;
+    private int[] g, rhs;
+    private IndexedMinHeap open;
+    private int start = -1;
+    private int km;
+    private final int[] neighbors = new int[6];
+    private final int[] repairNeighbors = new int[6];
+    private final int[] preds = new int[6];
+    private int[] expanded = new int[16];
+    private int expandedCount;
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        if (board != this.board || this.start < 0) {
+            initialize(board, start);
+        } else {
+            if (board.getVersion() != knownVersion) syncChanges();
+            if (start != this.start) {
+                km += heuristic(this.start, start);
+                this.start = start;
+            }
+        }
+
+        expandedCount = 0;
+        computeShortestPath();
+        return new BoardPathResult(Arrays.copyOf(expanded, expandedCount), extractPath());
+    }
+
+    /** Applies a single-cell change that was just made on the followed board. */
+    public void cellChanged(HexBoard board, int cell) {
+        if (board != this.board) return;
+        boolean blocked = board.isBlocked(cell);
+        long bit = 1L << cell;
+        if (((knownBlocked[cell >>> 6] & bit) != 0) != blocked) {
+            knownBlocked[cell >>> 6] ^= bit;
+            repair(cell);
+        }
+        knownVersion++;
+        if (board.getVersion() != knownVersion) syncChanges();
+    }
+
+    /** Escape distance of {@code cell} from the last search, valid along the cat's path. */
+    public int getDistance(int cell) {
+        return g[cell] >= INF ? -1 : g[cell];
+    }
+
+    private void initialize(HexBoard board, int start) {
+        this.board = board;
+        this.start = start;
+        this.km = 0;
+        int n = board.size();
+        if (g == null || g.length != n) {
+            g = new int[n];
+            rhs = new int[n];
+            open = new IndexedMinHeap(n);
+        } else {
+            open.clear();
+        }
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+
+        knownBlocked = new long[board.getWordCount()];
+        for (int w = 0; w < knownBlocked.length; w++) knownBlocked[w] = board.getBlockedWord(w);
+        knownVersion = board.getVersion();
+
+        int rowNum = board.getRows(), colNum = board.getCols();
+        for (int i = 0; i < rowNum; i++) {
+            int step = (i == 0 || i == rowNum - 1) ? 1 : Math.max(1, colNum - 1);
+            for (int j = 0; j < colNum; j += step) {
+                int cell = board.index(i, j);
+                if (!board.isBlocked(cell)) {
+                    rhs[cell] = 0;
+                    open.put(cell, calculateKey(cell));
+                }
+            }
+        }
+    }
+
+    private void syncChanges() {
+        for (int w = 0; w < knownBlocked.length; w++) {
+            long diff = knownBlocked[w] ^ board.getBlockedWord(w);
+            knownBlocked[w] ^= diff;
+            while (diff != 0) {
+                repair((w << 6) + Long.numberOfTrailingZeros(diff));
+                diff &= diff - 1;
+            }
+        }
+        knownVersion = board.getVersion();
+    }
+
+    private void repair(int cell) {
+        updateVertex(cell);
+        int count = StrategyUtils.getNeighbors(board, cell, repairNeighbors);
+        for (int k = 0; k < count; k++) updateVertex(repairNeighbors[k]);
+    }
+
+    private boolean isGoal(int cell) {
+        return board.isAtBorder(cell) && !board.isBlocked(cell);
+    }
+
+    private void updateVertex(int u) {
+        if (!isGoal(u)) {
+            int best = INF;
+            if (!board.isBlocked(u)) {
+                int count = StrategyUtils.getNeighbors(board, u, neighbors);
+                for (int k = 0; k < count; k++) {
+                    int s = neighbors[k];
+                    if (!board.isBlocked(s) && g[s] + 1 < best) best = g[s] + 1;
+                }
+            }
+            rhs[u] = best;
+        } else {
+            rhs[u] = 0;
+        }
+
+        if (g[u] != rhs[u]) open.put(u, calculateKey(u));
+        else open.remove(u);
+    }
+
+    private void computeShortestPath() {
+        while (!open.isEmpty()
+                && (open.peekKey() < calculateKey(start) || rhs[start] != g[start])) {
+            int u = open.peek();
+            long oldKey = open.peekKey();
+            long newKey = calculateKey(u);
+
+            if (oldKey < newKey) {
+                open.put(u, newKey);
+                continue;
+            }
+
+            record(u);
+            int count = StrategyUtils.getNeighbors(board, u, preds);
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                open.remove(u);
+                for (int k = 0; k < count; k++) updateVertex(preds[k]);
+            } else {
+                g[u] = INF;
+                updateVertex(u);
+                for (int k = 0; k < count; k++) updateVertex(preds[k]);
+            }
+        }
+    }
+
+    private int[] extractPath() {
+        if (g[start] >= INF) return new int[0];
+
+        int[] path = new int[g[start] + 1];
+        int length = 0;
+        int cur = start;
+        path[length++] = cur;
+        while (!isGoal(cur) && length < path.length) {
+            int next = -1, best = INF;
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int s = neighbors[k];
+                if (!board.isBlocked(s) && g[s] < best) {
+                    best = g[s];
+                    next = s;
+                }
+            }
+            if (next < 0) return new int[0];
+            cur = next;
+            path[length++] = cur;
+        }
+        return length == path.length ? path : Arrays.copyOf(path, length);
+    }
+
+    private long calculateKey(int cell) {
+        int m = Math.min(g[cell], rhs[cell]);
+        long k1 = m >= INF ? INF : (long) m + heuristic(start, cell) + km;
+        return (k1 << 32) | m;
+    }
+
+    private int heuristic(int a, int b) {
+        return StrategyUtils.hexDistance(board.row(a), board.col(a), board.row(b), board.col(b));
+    }
+
+    private void record(int cell) {
+        if (expandedCount == expanded.length) expanded = Arrays.copyOf(expanded, expandedCount << 1);
+        expanded[expandedCount++] = cell;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Step-wise run of a {@link SearchKernels} loop: each step advances the very
+ * kernel the strategy's {@code findPath} runs to the end, so a session
+ * explores the cells in the same order. The search lives in a spare
+ * {@link SearchScratch} that goes back to the pool once the session ends, and
+ * each step drains the order it recorded, so only one step's worth is held.
+ */
+final class KernelSession implements SearchSession {
+    private static final int[] NO_PATH = new int[0];
+
+    private final HexBoard board;
+    private final int version;
+    private SearchScratch scratch;
+    private int[] path = NO_PATH;
+    private int explored = 0;
+
+    KernelSession(HexBoard board, int start, SearchKernels.Kind kind) {
+        this.board = board;
+        this.version = board.getVersion();
+        this.scratch = SearchScratch.acquire();
+        SearchKernels.begin(kind, board, start, scratch);
+    }
+
+    public int step(int maxSteps, IntConsumer expanded) {
+        if (scratch == null) return 0;
+        if (board.getVersion() != version) {
+            cancel();
+            return 0;
+        }
+        int end = SearchKernels.advance(board, scratch, maxSteps);
+        int count = scratch.drainOrder(expanded);
+        explored += count;
+        if (end != SearchKernels.RUNNING) {
+            if (end >= 0) path = scratch.toPath(end);
+            finish();
+        }
+        return count;
+    }
+
+    public boolean isDone() {
+        return scratch == null;
+    }
+
+    public void cancel() {
+        path = NO_PATH;
+        if (scratch != null) finish();
+    }
+
+    public int getExploredCount() {
+        return explored;
+    }
+
+    public int[] getPath() {
+        return path;
+    }
+
+    private void finish() {
+        scratch.release();
+        scratch = null;
+    }
+}
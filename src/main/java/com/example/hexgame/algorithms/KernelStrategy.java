@@ -0,0 +1,47 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * Strategy over one of the {@link SearchKernels}: subclasses pick the kernel,
+ * and every query runs it on the calling thread's {@link SearchScratch}. The
+ * lean queries skip recording the exploration order, and sessions step the
+ * same kernel.
+ */
+public abstract class KernelStrategy implements PathfindingStrategy {
+
+    /** The kernel to run on {@code board}. */
+    protected abstract SearchKernels.Kind kind(HexBoard board);
+
+    /** Runs the kernel and returns the border cell it reached, or -1. */
+    private int search(HexBoard board, int start, SearchScratch scratch) {
+        return SearchKernels.run(kind(board), board, start, scratch);
+    }
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        return scratch.toResult(search(board, start, scratch));
+    }
+
+    public int[] findPathOnly(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        scratch.skipOrder();
+        return scratch.toPath(search(board, start, scratch));
+    }
+
+    public int findNextStep(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        scratch.skipOrder();
+        return scratch.nextStep(search(board, start, scratch));
+    }
+
+    public int findDistance(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        scratch.skipOrder();
+        return scratch.pathLength(search(board, start, scratch)) - 1;
+    }
+
+    public SearchSession openSession(HexBoard board, int start) {
+        return new KernelSession(board, start, kind(board));
+    }
+}
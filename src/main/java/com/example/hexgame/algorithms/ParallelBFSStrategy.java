@@ -0,0 +1,234 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.StrategyUtils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Level-synchronous BFS for very large boards. Each level is expanded in
+ * parallel, switching between top-down (frontier cells push to unvisited
+ * neighbors) and bottom-up (unvisited cells scan a frontier bitset for a
+ * parent) depending on which side of the level is smaller. Top-down levels
+ * keep the frontier as a cell list, bottom-up levels as a bitset.
+ *
+ * <p>Parents are stored as the neighbor slot leading back, one byte per cell.
+ * Path lengths match {@link BFSStrategy}; which of several shortest paths is
+ * returned may vary between runs.
+ */
+public class ParallelBFSStrategy implements PathfindingStrategy {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int WORDS_PER_TASK = 64;
+    private static final int CELLS_PER_TASK = 1024;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int ALPHA = 14, BETA = 24;
+
+    private final int alpha, beta, parallelThreshold;
+
+    public ParallelBFSStrategy() {
+        this(ALPHA, BETA, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Go bottom-up once the frontier exceeds 1/{@code alpha} of the unvisited
+     * cells, back top-down once it falls below 1/{@code beta} of the board;
+     * levels with at least {@code parallelThreshold} cells of work run in
+     * parallel.
+     */
+    ParallelBFSStrategy(int alpha, int beta, int parallelThreshold) {
+        if (alpha <= 0 || beta <= 0) throw new IllegalArgumentException("Invalid alpha " + alpha + " or beta " + beta);
+        this.alpha = alpha;
+        this.beta = beta;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        int n = board.size();
+        int wordCount = board.getWordCount();
+        long[] visited = new long[wordCount];
+        long[] frontierBits = null, nextBits = null;
+        byte[] parentSlot = new byte[n];
+        int[] visitedOrder = new int[16];
+        int explored = 0;
+
+        int openCount = n - board.getBlockedCount();
+        visited[start >>> 6] |= 1L << start;
+        int[] frontier = {start};
+        int frontierSize = 1, visitedCount = 1;
+        int end = board.isAtBorder(start) ? start : -1;
+        boolean bottomUp = false;
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+
+        while (frontierSize > 0) {
+            // Record the level, stopping at the escape cell
+            if (explored + frontierSize > visitedOrder.length) {
+                visitedOrder = Arrays.copyOf(visitedOrder, Math.max(explored + frontierSize, explored << 1));
+            }
+            if (bottomUp) {
+                for (int w = 0; w < wordCount; w++) {
+                    for (long bits = frontierBits[w]; bits != 0; bits &= bits - 1) {
+                        int cell = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        visitedOrder[explored++] = cell;
+                        if (cell == end) return finish(board, visitedOrder, explored, end, start, parentSlot);
+                    }
+                }
+            } else {
+                for (int k = 0; k < frontierSize; k++) {
+                    visitedOrder[explored++] = frontier[k];
+                    if (frontier[k] == end) return finish(board, visitedOrder, explored, end, start, parentSlot);
+                }
+            }
+
+            int unvisited = openCount - visitedCount;
+            boolean wasBottomUp = bottomUp;
+            if (!bottomUp && frontierSize > unvisited / alpha) bottomUp = true;
+            else if (bottomUp && frontierSize < n / beta) bottomUp = false;
+
+            if (bottomUp) {
+                if (frontierBits == null) {
+                    frontierBits = new long[wordCount];
+                    nextBits = new long[wordCount];
+                }
+                if (!wasBottomUp) {
+                    Arrays.fill(frontierBits, 0L);
+                    for (int k = 0; k < frontierSize; k++) frontierBits[frontier[k] >>> 6] |= 1L << frontier[k];
+                }
+                Arrays.fill(nextBits, 0L);
+                long[] current = frontierBits, next = nextBits;
+                IntStream range = IntStream.range(0, (wordCount + WORDS_PER_TASK - 1) / WORDS_PER_TASK);
+                if (unvisited >= parallelThreshold) range = range.parallel();
+                range.forEach(t -> bottomUpStep(board, t, current, visited, next, parentSlot, found));
+
+                frontierBits = next;
+                nextBits = current;
+                frontierSize = 0;
+                for (long word : frontierBits) frontierSize += Long.bitCount(word);
+            } else {
+                if (wasBottomUp) frontier = toList(frontierBits, frontierSize);
+                int[] current = frontier;
+                int size = frontierSize;
+                IntStream range = IntStream.range(0, (size + CELLS_PER_TASK - 1) / CELLS_PER_TASK);
+                if (size >= parallelThreshold) range = range.parallel();
+                int[][] parts = range
+                        .mapToObj(t -> topDownStep(board, t, current, size, visited, parentSlot, found))
+                        .toArray(int[][]::new);
+
+                frontierSize = 0;
+                for (int[] part : parts) frontierSize += part[0];
+                frontier = new int[frontierSize];
+                int k = 0;
+                for (int[] part : parts) {
+                    System.arraycopy(part, 1, frontier, k, part[0]);
+                    k += part[0];
+                }
+            }
+
+            visitedCount += frontierSize;
+            if (found.get() != Integer.MAX_VALUE) end = found.get();
+        }
+
+        return new BoardPathResult(Arrays.copyOf(visitedOrder, explored), new int[0]);
+    }
+
+    /** Expands one slice of the frontier list; returns the discovered cells prefixed by their count. */
+    private static int[] topDownStep(HexBoard board, int task, int[] frontier, int frontierSize,
+                                     long[] visited, byte[] parentSlot, AtomicInteger found) {
+        int[] neighbors = new int[6];
+        int[] back = new int[6];
+        int[] discovered = new int[64];
+        int count = 0;
+        int to = Math.min(frontierSize, (task + 1) * CELLS_PER_TASK);
+        for (int f = task * CELLS_PER_TASK; f < to; f++) {
+            int cur = frontier[f];
+            int neighborCount = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < neighborCount; k++) {
+                int neighbor = neighbors[k];
+                if (board.isBlocked(neighbor)) continue;
+                long bit = 1L << neighbor;
+                int nw = neighbor >>> 6;
+                if ((visited[nw] & bit) != 0) continue;
+                long before = (long) WORDS.getAndBitwiseOr(visited, nw, bit);
+                if ((before & bit) != 0) continue;
+
+                parentSlot[neighbor] = (byte) slotOf(board, neighbor, cur, back);
+                if (++count == discovered.length) discovered = Arrays.copyOf(discovered, count << 1);
+                discovered[count] = neighbor;
+                if (board.isAtBorder(neighbor)) found.accumulateAndGet(neighbor, Math::min);
+            }
+        }
+        discovered[0] = count;
+        return discovered;
+    }
+
+    private static void bottomUpStep(HexBoard board, int task, long[] frontier, long[] visited, long[] next,
+                                     byte[] parentSlot, AtomicInteger found) {
+        int[] neighbors = new int[6];
+        int n = board.size();
+        int to = Math.min(visited.length, (task + 1) * WORDS_PER_TASK);
+        for (int w = task * WORDS_PER_TASK; w < to; w++) {
+            long candidates = ~visited[w] & ~board.getBlockedWord(w);
+            if (w == visited.length - 1 && (n & 63) != 0) candidates &= (1L << (n & 63)) - 1;
+
+            for (long bits = candidates; bits != 0; bits &= bits - 1) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(bits);
+                int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+                for (int k = 0; k < count; k++) {
+                    int neighbor = neighbors[k];
+                    if ((frontier[neighbor >>> 6] & (1L << neighbor)) == 0) continue;
+
+                    // This task owns word w, so plain writes are safe here
+                    parentSlot[cell] = (byte) k;
+                    visited[w] |= 1L << cell;
+                    next[w] |= 1L << cell;
+                    if (board.isAtBorder(cell)) found.accumulateAndGet(cell, Math::min);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int[] toList(long[] bits, int size) {
+        int[] cells = new int[size];
+        int k = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                cells[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return cells;
+    }
+
+    private static BoardPathResult finish(HexBoard board, int[] visitedOrder, int explored, int end, int start,
+                                          byte[] parentSlot) {
+        return new BoardPathResult(Arrays.copyOf(visitedOrder, explored), buildPath(board, end, start, parentSlot));
+    }
+
+    /** Index of {@code target} in {@code cell}'s neighbor list. */
+    private static int slotOf(HexBoard board, int cell, int target, int[] neighbors) {
+        int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+        for (int k = 0; k < count; k++) {
+            if (neighbors[k] == target) return k;
+        }
+        throw new IllegalStateException("Cells " + cell + " and " + target + " are not adjacent");
+    }
+
+    private static int[] buildPath(HexBoard board, int end, int start, byte[] parentSlot) {
+        int[] neighbors = new int[6];
+        int[] path = new int[16];
+        int length = 0;
+        for (int cur = end; ; ) {
+            if (length == path.length) path = Arrays.copyOf(path, length << 1);
+            path[length++] = cur;
+            if (cur == start) break;
+            StrategyUtils.getNeighbors(board, cur, neighbors);
+            cur = neighbors[parentSlot[cur]];
+        }
+        int[] ordered = new int[length];
+        for (int k = 0; k < length; k++) ordered[k] = path[length - 1 - k];
+        return ordered;
+    }
+}
@@ -1,9 +1,43 @@
 package com.example.hexgame.algorithms;
 
+import com.example.hexgame.model.HexBoard;
 import com.example.hexgame.model.Tile;
+import com.example.hexgame.utils.StrategyUtils;
 
 public interface PathfindingStrategy {
 
-    PathfindingResult findPath(Tile[][] grid, Tile start, int rowNum, int colNum);
+    /** Runs the board search behind {@code start} and maps the cells back onto {@code grid}. */
+    default PathfindingResult findPath(Tile[][] grid, Tile start, int rowNum, int colNum) {
+        return StrategyUtils.toTileResult(grid, findPath(start.getBoard(), start.getIndex()));
+    }
+
+    BoardPathResult findPath(HexBoard board, int start);
+
+    /**
+     * The path alone, for callers that do not show the search. Strategies on
+     * {@link SearchScratch} skip recording the exploration order.
+     */
+    default int[] findPathOnly(HexBoard board, int start) {
+        return findPath(board, start).path;
+    }
+
+    /** The cell after {@code start} on the path; {@code start} itself on the border, -1 if trapped. */
+    default int findNextStep(HexBoard board, int start) {
+        int[] path = findPathOnly(board, start);
+        return path.length == 0 ? -1 : path[Math.min(1, path.length - 1)];
+    }
+
+    /** Steps on the path to the border, or -1 if trapped. */
+    default int findDistance(HexBoard board, int start) {
+        return findPathOnly(board, start).length - 1;
+    }
+
+    /**
+     * The same search, advanced step by step. Strategies that cannot be
+     * stepped run it up front and replay the recorded order.
+     */
+    default SearchSession openSession(HexBoard board, int start) {
+        return new ResultSession(findPath(board, start));
+    }
 
 }
@@ -0,0 +1,44 @@
+package com.example.hexgame.algorithms;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Session over a search that already ran to completion, for strategies that
+ * cannot be stepped. It replays the recorded exploration order.
+ */
+final class ResultSession implements SearchSession {
+    private static final int[] NO_PATH = new int[0];
+
+    private final BoardPathResult result;
+    private int position = 0;
+    private boolean cancelled = false;
+
+    ResultSession(BoardPathResult result) {
+        this.result = result;
+    }
+
+    public int step(int maxSteps, IntConsumer expanded) {
+        int count = 0;
+        while (count < maxSteps && !isDone()) {
+            expanded.accept(result.visitedOrder[position++]);
+            count++;
+        }
+        return count;
+    }
+
+    public boolean isDone() {
+        return cancelled || position == result.visitedOrder.length;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public int getExploredCount() {
+        return position;
+    }
+
+    public int[] getPath() {
+        return cancelled || !isDone() ? NO_PATH : result.path;
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.IntBucketQueue;
+import com.example.hexgame.utils.IntRingBuffer;
+import com.example.hexgame.utils.StrategyUtils;
+
+/**
+ * Allocation-free search loops shared by the built-in strategies. Each kernel
+ * returns the border cell it reached (or -1) and leaves the search tree and
+ * exploration order in the given scratch.
+ *
+ * <p>The loops are resumable: {@link #begin} seeds a search and
+ * {@link #advance} runs it for a budget of expansions, keeping the frontier in
+ * the scratch between calls. The one-shot kernels run it without a budget;
+ * {@link KernelSession} steps through the same loops a few cells at a time.
+ *
+ * <p>Only the kernels themselves, and with them {@code findNextStep} and
+ * {@code findDistance}, are garbage-free. {@code findPath} and
+ * {@code findPathOnly} still copy their answer into fresh arrays, as the
+ * results outlive the scratch; callers that want the path without garbage
+ * run a kernel and read it with {@link SearchScratch#copyPath} into a buffer
+ * of their own.
+ */
+public final class SearchKernels {
+    public enum Kind { BFS, DFS, ASTAR, DIJKSTRA, WEIGHTED_ASTAR }
+
+    /** {@link #advance} spent its budget before the search ended. */
+    public static final int RUNNING = -2;
+
+    private SearchKernels() {
+    }
+
+    public static int bfs(HexBoard board, int start, SearchScratch s) {
+        return run(Kind.BFS, board, start, s);
+    }
+
+    public static int dfs(HexBoard board, int start, SearchScratch s) {
+        return run(Kind.DFS, board, start, s);
+    }
+
+    /**
+     * A* towards the nearest open border cell, guided by {@link BorderDistance}.
+     * Among cells of equal f the frontier hands out the one pushed last, so on
+     * open ground the search runs straight down one of the many equally short
+     * paths instead of widening across all of them.
+     */
+    public static int astar(HexBoard board, int start, SearchScratch s) {
+        return run(Kind.ASTAR, board, start, s);
+    }
+
+    /**
+     * Cheapest path to the border when cells cost {@link HexBoard#getStepCost}
+     * to enter: Dijkstra, or A* with {@code guided}. Open-border distance times
+     * the cheapest step cost of 1 stays admissible and consistent, so the first
+     * border cell polled is a cheapest one. Keys grow by at most the highest
+     * step cost plus one, which keeps the bucket ring small.
+     */
+    public static int cheapest(HexBoard board, int start, SearchScratch s, boolean guided) {
+        return run(guided ? Kind.WEIGHTED_ASTAR : Kind.DIJKSTRA, board, start, s);
+    }
+
+    /** Runs a search of {@code kind} to the end. */
+    public static int run(Kind kind, HexBoard board, int start, SearchScratch s) {
+        begin(kind, board, start, s);
+        return advance(board, s, Integer.MAX_VALUE);
+    }
+
+    /** Seeds a search of {@code kind} from {@code start}; nothing is expanded yet. */
+    public static void begin(Kind kind, HexBoard board, int start, SearchScratch s) {
+        s.begin(board.size());
+        s.kind = kind;
+        s.visit(start, -1);
+        switch (kind) {
+            case BFS:
+                s.queue.add(start);
+                break;
+            case DFS:
+                s.stack[0] = start;
+                s.top = 1;
+                break;
+            default:
+                BorderDistance border = s.border;
+                border.update(board);
+                // Nothing to aim for: leave the frontier empty
+                if (!border.hasOpenBorder()) break;
+                s.cost[start] = 0;
+                s.estimate[start] = kind == Kind.DIJKSTRA ? 0 : border.get(start);
+                (kind == Kind.ASTAR ? s.buckets : s.weighted).push(s.estimate[start], start);
+        }
+    }
+
+    /**
+     * Expands at most {@code maxSteps} more cells of the search begun on
+     * {@code s}. Returns the border cell reached, -1 once the frontier runs
+     * dry, or {@link #RUNNING}.
+     */
+    public static int advance(HexBoard board, SearchScratch s, int maxSteps) {
+        if (s.kind == null) throw new IllegalStateException("No search begun on this scratch");
+        switch (s.kind) {
+            case BFS: return advanceBfs(board, s, maxSteps);
+            case DFS: return advanceDfs(board, s, maxSteps);
+            case ASTAR: return advanceAstar(board, s, maxSteps);
+            default: return advanceCheapest(board, s, maxSteps, s.kind == Kind.WEIGHTED_ASTAR);
+        }
+    }
+
+    private static int advanceBfs(HexBoard board, SearchScratch s, int maxSteps) {
+        IntRingBuffer q = s.queue;
+        int[] neighbors = s.neighbors;
+
+        for (int steps = 0; !q.isEmpty(); steps++) {
+            if (steps == maxSteps) return RUNNING;
+            int cur = q.poll();
+            s.record(cur);
+
+            if (board.isAtBorder(cur)) return cur;
+
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (!board.isBlocked(neighbor) && !s.isVisited(neighbor)) {
+                    s.visit(neighbor, cur);
+                    q.add(neighbor);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int advanceDfs(HexBoard board, SearchScratch s, int maxSteps) {
+        int[] stack = s.stack;
+        int[] neighbors = s.neighbors;
+        int top = s.top;
+
+        for (int steps = 0; top > 0; steps++) {
+            if (steps == maxSteps) {
+                s.top = top;
+                return RUNNING;
+            }
+            int cur = stack[--top];
+            s.record(cur);
+
+            if (board.isAtBorder(cur)) {
+                s.top = top;
+                return cur;
+            }
+
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (!board.isBlocked(neighbor) && !s.isVisited(neighbor)) {
+                    s.visit(neighbor, cur);
+                    if (top == stack.length) stack = s.growStack();
+                    stack[top++] = neighbor;
+                }
+            }
+        }
+        s.top = 0;
+        return -1;
+    }
+
+    private static int advanceAstar(HexBoard board, SearchScratch s, int maxSteps) {
+        BorderDistance border = s.border;
+        IntBucketQueue open = s.buckets;
+        int[] cost = s.cost;
+        int[] estimate = s.estimate;
+        int[] neighbors = s.neighbors;
+
+        for (int steps = 0; !open.isEmpty(); ) {
+            if (steps == maxSteps) return RUNNING;
+            int f = open.peekKey();
+            int cur = open.poll();
+            // Superseded by a cheaper push of the same cell
+            if (cost[cur] + estimate[cur] != f) continue;
+
+            steps++;
+            s.record(cur);
+            if (board.isAtBorder(cur)) return cur;
+
+            int newCost = cost[cur] + 1;
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (board.isBlocked(neighbor)) continue;
+
+                if (!s.isVisited(neighbor)) {
+                    estimate[neighbor] = border.get(neighbor);
+                } else if (newCost >= cost[neighbor]) {
+                    continue;
+                }
+                s.visit(neighbor, cur);
+                cost[neighbor] = newCost;
+                open.push(newCost + estimate[neighbor], neighbor);
+            }
+        }
+        return -1;
+    }
+
+    private static int advanceCheapest(HexBoard board, SearchScratch s, int maxSteps, boolean guided) {
+        BorderDistance border = s.border;
+        IntBucketQueue open = s.weighted;
+        int[] cost = s.cost;
+        int[] estimate = s.estimate;
+        int[] neighbors = s.neighbors;
+
+        for (int steps = 0; !open.isEmpty(); ) {
+            if (steps == maxSteps) return RUNNING;
+            int f = open.peekKey();
+            int cur = open.poll();
+            if (cost[cur] + estimate[cur] != f) continue;
+
+            steps++;
+            s.record(cur);
+            if (board.isAtBorder(cur)) return cur;
+
+            int count = StrategyUtils.getNeighbors(board, cur, neighbors);
+            for (int k = 0; k < count; k++) {
+                int neighbor = neighbors[k];
+                if (board.isBlocked(neighbor)) continue;
+
+                int newCost = cost[cur] + board.getStepCost(neighbor);
+                if (!s.isVisited(neighbor)) {
+                    estimate[neighbor] = guided ? border.get(neighbor) : 0;
+                } else if (newCost >= cost[neighbor]) {
+                    continue;
+                }
+                s.visit(neighbor, cur);
+                cost[neighbor] = newCost;
+                open.push(newCost + estimate[neighbor], neighbor);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.Terrain;
+import com.example.hexgame.utils.IntBucketQueue;
+import com.example.hexgame.utils.IntMinHeap;
+import com.example.hexgame.utils.IntRingBuffer;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Reusable working memory for the search kernels. Visited flags are stamped
+ * with a generation counter so starting a new search never clears an array;
+ * once the buffers have grown to the board size a search allocates nothing.
+ *
+ * <p>Besides the one per thread, a few spares are kept for searches that
+ * outlive a call, such as a {@link SearchSession} stepped across frames.
+ */
+public final class SearchScratch {
+    private static final ThreadLocal<SearchScratch> LOCAL = ThreadLocal.withInitial(SearchScratch::new);
+    private static final int MAX_SPARES = 4;
+    private static final ArrayDeque<SearchScratch> SPARES = new ArrayDeque<>();
+
+    private int[] mark = new int[0];
+    private int stamp = 0;
+    int[] parent = new int[0];
+    int[] cost = new int[0];
+    int[] estimate = new int[0];
+    int[] stack = new int[16];
+    /** The search under way and, for DFS, its stack height; both survive between kernel steps. */
+    SearchKernels.Kind kind;
+    int top;
+    private int[] order = new int[16];
+    private int orderSize = 0;
+    private boolean recordOrder = true, skipOrder = false;
+    private long searches = 0;
+    final IntRingBuffer queue = new IntRingBuffer(64);
+    final IntMinHeap heap = new IntMinHeap(64);
+    /** A* frontier: with unit steps and a consistent heuristic, f grows by at most 2 per step. */
+    final IntBucketQueue buckets = new IntBucketQueue(2);
+    /** Frontier of the terrain-aware searches, whose keys step by up to the dearest terrain plus one. */
+    final IntBucketQueue weighted = new IntBucketQueue(Terrain.MAX_COST + 1);
+    final BorderDistance border = new BorderDistance();
+    final int[] neighbors = new int[6];
+
+    /** Scratch owned by the calling thread. */
+    public static SearchScratch current() {
+        return LOCAL.get();
+    }
+
+    /** A scratch no one else uses until it is {@link #release released}. */
+    public static SearchScratch acquire() {
+        synchronized (SPARES) {
+            SearchScratch spare = SPARES.poll();
+            if (spare != null) return spare;
+        }
+        return new SearchScratch();
+    }
+
+    /** Hands a scratch from {@link #acquire} back; the caller must not touch it again. */
+    public void release() {
+        kind = null;
+        synchronized (SPARES) {
+            if (SPARES.size() < MAX_SPARES) SPARES.push(this);
+        }
+    }
+
+    void begin(int cells) {
+        if (mark.length < cells) {
+            mark = new int[cells];
+            parent = new int[cells];
+            cost = new int[cells];
+            estimate = new int[cells];
+            stamp = 0;
+        }
+        if (++stamp == 0) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+        queue.clear();
+        heap.clear();
+        buckets.clear();
+        weighted.clear();
+        orderSize = 0;
+        recordOrder = !skipOrder;
+        skipOrder = false;
+        searches++;
+    }
+
+    /**
+     * Makes the next search on this scratch only count its expansions instead
+     * of recording their order, for callers that want the path alone.
+     */
+    public void skipOrder() {
+        skipOrder = true;
+    }
+
+    boolean isVisited(int cell) {
+        return mark[cell] == stamp;
+    }
+
+    void visit(int cell, int from) {
+        mark[cell] = stamp;
+        parent[cell] = from;
+    }
+
+    void record(int cell) {
+        if (recordOrder) {
+            if (orderSize == order.length) order = Arrays.copyOf(order, orderSize << 1);
+            order[orderSize] = cell;
+        }
+        orderSize++;
+    }
+
+    /**
+     * Hands the cells recorded since the last drain to {@code to} and forgets
+     * them, so a search stepped in slices keeps only one slice of its order.
+     * Returns how many there were.
+     */
+    int drainOrder(IntConsumer to) {
+        int count = orderSize;
+        for (int k = 0; k < count; k++) to.accept(order[k]);
+        orderSize = 0;
+        return count;
+    }
+
+    int[] growStack() {
+        return stack = Arrays.copyOf(stack, stack.length << 1);
+    }
+
+    /** Searches begun on this scratch so far. */
+    public long getSearchCount() {
+        return searches;
+    }
+
+    /** Number of cells the last search expanded. */
+    public int getExploredCount() {
+        return orderSize;
+    }
+
+    /** Parent of {@code cell} in the last search tree, or -1 for its root. */
+    public int getParent(int cell) {
+        return parent[cell];
+    }
+
+    /** Writes the path ending at {@code end} into {@code out} and returns its length. */
+    public int copyPath(int end, int[] out) {
+        int length = pathLength(end);
+        for (int current = end, k = length; current != -1; current = parent[current]) {
+            out[--k] = current;
+        }
+        return length;
+    }
+
+    /** Priority queue pushes made by all searches on this scratch so far. */
+    public long getHeapPushes() {
+        return heap.getPushCount() + buckets.getPushCount() + weighted.getPushCount();
+    }
+
+    public int pathLength(int end) {
+        int length = 0;
+        for (int current = end; current != -1; current = parent[current]) length++;
+        return length;
+    }
+
+    /** The cell after the root on the path ending at {@code end}; the root if the path has one cell, -1 if none. */
+    public int nextStep(int end) {
+        if (end < 0) return -1;
+        int current = end;
+        while (parent[current] != -1 && parent[parent[current]] != -1) current = parent[current];
+        return current;
+    }
+
+    /** Path ending at {@code end}, or an empty one for -1. */
+    int[] toPath(int end) {
+        int[] path = new int[pathLength(end)];
+        copyPath(end, path);
+        return path;
+    }
+
+    /** Copies the order and path out, so the result stays valid after the next search; allocates both. */
+    BoardPathResult toResult(int end) {
+        if (!recordOrder) throw new IllegalStateException("The last search did not record its order");
+        return new BoardPathResult(Arrays.copyOf(order, orderSize), toPath(end));
+    }
+}
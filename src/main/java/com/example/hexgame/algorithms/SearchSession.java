@@ -0,0 +1,33 @@
+package com.example.hexgame.algorithms;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A search advanced a few expansions at a time, so a caller can spread it over
+ * animation frames and stop it early. Expanded cells are handed to a listener
+ * as they happen rather than collected, so the memory a session holds does not
+ * grow with the number of cells it has explored.
+ *
+ * <p>The board must not change while a session runs; a session that notices a
+ * change ends without a path.
+ */
+public interface SearchSession {
+
+    /**
+     * Expands at most {@code maxSteps} cells, passing each one to
+     * {@code expanded}, and returns how many it expanded. Returns 0 once the
+     * search is done.
+     */
+    int step(int maxSteps, IntConsumer expanded);
+
+    boolean isDone();
+
+    /** Ends the search now; {@link #getPath} is then empty. */
+    void cancel();
+
+    /** Cells expanded so far. */
+    int getExploredCount();
+
+    /** The path from the start to the border once the search is done; empty if there is none. */
+    int[] getPath();
+}
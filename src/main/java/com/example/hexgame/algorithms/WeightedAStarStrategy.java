@@ -0,0 +1,14 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * Cheapest escape by terrain cost, guided like {@link AStarStrategy}. On a
+ * board without terrain it is {@link AStarStrategy}.
+ */
+public class WeightedAStarStrategy extends KernelStrategy {
+
+    protected SearchKernels.Kind kind(HexBoard board) {
+        return board.hasTerrain() ? SearchKernels.Kind.WEIGHTED_ASTAR : SearchKernels.Kind.ASTAR;
+    }
+}
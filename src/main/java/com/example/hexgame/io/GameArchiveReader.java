@@ -0,0 +1,106 @@
+package com.example.hexgame.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random access to an archive written by {@link GameArchiveWriter}. The file
+ * is memory-mapped in 1 GiB segments, mapped on first use, so opening even a
+ * huge archive reads only its footer, and fetching a game touches only that
+ * game's pages. The index itself is read straight from the mapping.
+ *
+ * <p>Safe for concurrent {@link #get} calls.
+ */
+public class GameArchiveReader implements AutoCloseable {
+    private static final long SEGMENT = 1L << 30;
+    private static final long SLACK = 1L << 20;
+
+    private final FileChannel channel;
+    private final long dataEnd;
+    private final int count;
+    private final LongBuffer index;
+    private final MappedByteBuffer[] segments;
+
+    public GameArchiveReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < GameArchiveWriter.HEADER_SIZE + GameArchiveWriter.FOOTER_SIZE) {
+                throw new IllegalArgumentException("Not a game archive: " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, GameArchiveWriter.HEADER_SIZE);
+            ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, size - GameArchiveWriter.FOOTER_SIZE,
+                    GameArchiveWriter.FOOTER_SIZE);
+            if (header.getInt() != GameArchiveWriter.MAGIC || footer.getInt(16) != GameArchiveWriter.INDEX_MAGIC) {
+                throw new IllegalArgumentException("Not a game archive, or not closed properly: " + path);
+            }
+            int version = header.getInt();
+            if (version != GameArchiveWriter.VERSION) {
+                throw new IllegalArgumentException("Unsupported archive version " + version);
+            }
+
+            dataEnd = footer.getLong(0);
+            long games = footer.getLong(8);
+            if (games > Integer.MAX_VALUE || dataEnd + games * 8 != size - GameArchiveWriter.FOOTER_SIZE) {
+                throw new IllegalArgumentException("Corrupt archive index: " + path);
+            }
+            count = (int) games;
+            index = channel.map(FileChannel.MapMode.READ_ONLY, dataEnd, games * 8).asLongBuffer();
+            segments = new MappedByteBuffer[(int) ((dataEnd + SEGMENT - 1) / SEGMENT)];
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public GameRecord get(int game) {
+        return GameCodec.decode(slice(game));
+    }
+
+    /** The encoded bytes of one game, without copying them out of the mapping. */
+    public ByteBuffer slice(int game) {
+        if (game < 0 || game >= count) throw new IndexOutOfBoundsException("Game " + game + " of " + count);
+        long start = index.get(game);
+        long end = game + 1 < count ? index.get(game + 1) : dataEnd;
+
+        int s = (int) (start / SEGMENT);
+        long base = s * SEGMENT;
+        MappedByteBuffer segment = segment(s);
+        if (end - base <= segment.capacity()) {
+            return segment.duplicate().limit((int) (end - base)).position((int) (start - base)).slice();
+        }
+        // Rare: a game that straddles the segment's slack gets its own mapping
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized MappedByteBuffer segment(int s) {
+        if (segments[s] == null) {
+            long base = s * SEGMENT;
+            try {
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, base, Math.min(SEGMENT + SLACK, dataEnd - base));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return segments[s];
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
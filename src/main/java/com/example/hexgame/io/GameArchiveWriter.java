@@ -0,0 +1,80 @@
+package com.example.hexgame.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends {@link GameRecord}s to an archive file. Records are encoded into a
+ * buffer and written in large chunks; {@link #close} writes the offset index
+ * and footer that let {@link GameArchiveReader} jump to any game.
+ *
+ * <p>File layout: 4-byte magic, 4-byte version, the records back to back, one
+ * 8-byte offset per record, then the index offset, the record count and a
+ * second magic.
+ *
+ * <p>{@link #append} is synchronized, so simulator threads can share a writer.
+ */
+public class GameArchiveWriter implements AutoCloseable {
+    static final int MAGIC = 0x48584741;
+    static final int INDEX_MAGIC = 0x48584749;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int FOOTER_SIZE = 20;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long[] offsets = new long[1024];
+    private int count = 0;
+    private long position = 0;
+    private boolean closed = false;
+
+    public GameArchiveWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putInt(VERSION);
+    }
+
+    public synchronized void append(GameRecord record) throws IOException {
+        if (closed) throw new IllegalStateException("Archive is closed");
+        int needed = GameCodec.maxSize(record);
+        if (buffer.remaining() < needed) {
+            flush();
+            if (buffer.capacity() < needed) buffer = ByteBuffer.allocate(needed);
+        }
+        offsets = GameCodec.grow(offsets, count + 1);
+        offsets[count++] = position + buffer.position();
+        GameCodec.encode(record, buffer);
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            long indexOffset = position + buffer.position();
+            for (int k = 0; k < count; k++) {
+                if (buffer.remaining() < 8) flush();
+                buffer.putLong(offsets[k]);
+            }
+            if (buffer.remaining() < FOOTER_SIZE) flush();
+            buffer.putLong(indexOffset).putLong(count).putInt(INDEX_MAGIC);
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) position += channel.write(buffer);
+        buffer.clear();
+    }
+}
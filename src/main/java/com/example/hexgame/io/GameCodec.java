@@ -0,0 +1,119 @@
+package com.example.hexgame.io;
+
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexAdjacency;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Binary layout of one {@link GameRecord}:
+ * <pre>
+ * varint rows, varint cols, 8-byte seed, varint length + UTF-8 strategy,
+ * byte outcome, varint start cat,
+ * ceil(rows * cols / 8) bytes of blocked bits, cell 0 in the low bit,
+ * varint turn count, then per turn varint (block * 8 + cat slot)
+ * </pre>
+ * The cat slot is the index of the cat's new cell among its old cell's
+ * neighbors ({@link HexAdjacency} order), or 7 if the cat did not move.
+ */
+final class GameCodec {
+    static final int STAYED = 7;
+
+    private GameCodec() {
+    }
+
+    /** Upper bound of the encoded size, for sizing the buffer. */
+    static int maxSize(GameRecord record) {
+        int n = record.rows * record.cols;
+        return 5 + 5 + 8 + 5 + 3 * record.strategy.length() + 1 + 5 + (n + 7) / 8 + 5 + 10 * record.blocks.length;
+    }
+
+    static void encode(GameRecord record, ByteBuffer out) {
+        putVarint(out, record.rows);
+        putVarint(out, record.cols);
+        out.putLong(record.seed);
+        byte[] name = record.strategy.getBytes(StandardCharsets.UTF_8);
+        putVarint(out, name.length);
+        out.put(name);
+        out.put((byte) record.outcome.ordinal());
+        putVarint(out, record.startCat);
+
+        int bytes = (record.rows * record.cols + 7) >>> 3;
+        for (int b = 0; b < bytes; b++) out.put((byte) (record.initialBlocked[b >>> 3] >>> ((b & 7) << 3)));
+
+        HexAdjacency adjacency = HexAdjacency.of(record.rows, record.cols);
+        int[] neighbors = new int[6];
+        putVarint(out, record.blocks.length);
+        int cat = record.startCat;
+        for (int t = 0; t < record.blocks.length; t++) {
+            int slot = STAYED;
+            if (record.cats[t] != cat) {
+                int count = adjacency.get(cat, neighbors);
+                for (int k = 0; k < count && slot == STAYED; k++) {
+                    if (neighbors[k] == record.cats[t]) slot = k;
+                }
+                if (slot == STAYED) throw new IllegalArgumentException("Cat jumped from " + cat + " to " + record.cats[t]);
+            }
+            putVarint(out, ((long) record.blocks[t] << 3) | slot);
+            cat = record.cats[t];
+        }
+    }
+
+    static GameRecord decode(ByteBuffer in) {
+        int rows = (int) getVarint(in);
+        int cols = (int) getVarint(in);
+        long seed = in.getLong();
+        byte[] name = new byte[(int) getVarint(in)];
+        in.get(name);
+        GameState.Status outcome = GameState.Status.values()[in.get()];
+        int startCat = (int) getVarint(in);
+
+        int n = rows * cols;
+        long[] blocked = new long[(n + 63) >>> 6];
+        int bytes = (n + 7) >>> 3;
+        for (int b = 0; b < bytes; b++) blocked[b >>> 3] |= (in.get() & 0xFFL) << ((b & 7) << 3);
+
+        HexAdjacency adjacency = HexAdjacency.of(rows, cols);
+        int[] neighbors = new int[6];
+        int turns = (int) getVarint(in);
+        int[] blocks = new int[turns];
+        int[] cats = new int[turns];
+        int cat = startCat;
+        for (int t = 0; t < turns; t++) {
+            long move = getVarint(in);
+            int slot = (int) (move & 7);
+            blocks[t] = (int) (move >>> 3);
+            if (slot != STAYED) {
+                adjacency.get(cat, neighbors);
+                cat = neighbors[slot];
+            }
+            cats[t] = cat;
+        }
+        return new GameRecord(rows, cols, seed, new String(name, StandardCharsets.UTF_8), outcome, startCat,
+                blocked, blocks, cats);
+    }
+
+    static void putVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long getVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    static long[] grow(long[] array, int needed) {
+        return needed <= array.length ? array : Arrays.copyOf(array, Math.max(needed, array.length << 1));
+    }
+}
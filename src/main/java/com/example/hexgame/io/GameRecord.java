@@ -0,0 +1,48 @@
+package com.example.hexgame.io;
+
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * One finished or abandoned game: the starting position, then per turn the
+ * trapper's block and the cat's cell after answering it.
+ */
+public class GameRecord {
+    public final int rows, cols;
+    public final long seed;
+    public final String strategy;
+    public final GameState.Status outcome;
+    public final int startCat;
+    /** Blocked cells at the start, packed like {@link HexBoard#getBlockedWord}. */
+    public final long[] initialBlocked;
+    public final int[] blocks;
+    public final int[] cats;
+
+    public GameRecord(int rows, int cols, long seed, String strategy, GameState.Status outcome, int startCat,
+                      long[] initialBlocked, int[] blocks, int[] cats) {
+        if (blocks.length != cats.length) throw new IllegalArgumentException("Need one cat cell per block");
+        if (initialBlocked.length != (rows * cols + 63) >>> 6) {
+            throw new IllegalArgumentException("Blocked bitset does not match " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.strategy = strategy;
+        this.outcome = outcome;
+        this.startCat = startCat;
+        this.initialBlocked = initialBlocked;
+        this.blocks = blocks;
+        this.cats = cats;
+    }
+
+    public int getTurnCount() {
+        return blocks.length;
+    }
+
+    /** Snapshot of the blocked cells of {@code board}, for {@link #initialBlocked}. */
+    public static long[] blockedWords(HexBoard board) {
+        long[] words = new long[board.getWordCount()];
+        for (int w = 0; w < words.length; w++) words[w] = board.getBlockedWord(w);
+        return words;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hexgame.io;
+
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * Walks a {@link GameRecord} back and forth. Seeking only applies or undoes
+ * the turns in between, as plain block and cat updates, so jumping to any
+ * move never re-runs a search.
+ */
+public class GameReplay {
+    private final GameRecord record;
+    private final HexBoard board;
+    private int turn = 0;
+
+    public GameReplay(GameRecord record) {
+        this.record = record;
+        this.board = new HexBoard(record.rows, record.cols);
+        for (int w = 0; w < record.initialBlocked.length; w++) {
+            for (long bits = record.initialBlocked[w]; bits != 0; bits &= bits - 1) {
+                board.setBlocked((w << 6) + Long.numberOfTrailingZeros(bits), true);
+            }
+        }
+        board.setCat(record.startCat);
+    }
+
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    /** The replay's board; it changes on every {@link #seek}. */
+    public HexBoard getBoard() {
+        return board;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getTurnCount() {
+        return record.getTurnCount();
+    }
+
+    /** Moves the board to the position after {@code target} turns. */
+    public HexBoard seek(int target) {
+        if (target < 0 || target > record.getTurnCount()) {
+            throw new IndexOutOfBoundsException("Turn " + target + " of " + record.getTurnCount());
+        }
+        while (turn < target) {
+            board.setBlocked(record.blocks[turn], true);
+            board.setCat(record.cats[turn]);
+            turn++;
+        }
+        while (turn > target) {
+            turn--;
+            board.setBlocked(record.blocks[turn], false);
+            board.setCat(turn == 0 ? record.startCat : record.cats[turn - 1]);
+        }
+        return board;
+    }
+
+    /** An independent copy of the position after {@code target} turns. */
+    public HexBoard boardAt(int target) {
+        return new HexBoard(seek(target));
+    }
+}
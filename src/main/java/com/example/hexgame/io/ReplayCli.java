@@ -0,0 +1,54 @@
+package com.example.hexgame.io;
+
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Prints an archive summary, or one game's board after a given turn.
+ */
+public class ReplayCli {
+    static final String USAGE = "usage: replay FILE [GAME [TURN]]";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        try (GameArchiveReader reader = new GameArchiveReader(Paths.get(args[0]))) {
+            if (args.length == 1) {
+                long trapped = 0, turns = 0;
+                for (int k = 0; k < reader.size(); k++) {
+                    GameRecord record = reader.get(k);
+                    turns += record.getTurnCount();
+                    if (record.outcome == GameState.Status.TRAPPED) trapped++;
+                }
+                System.out.printf("games=%d trapped=%d turns=%d%n", reader.size(), trapped, turns);
+                return;
+            }
+
+            GameRecord record = reader.get(Integer.parseInt(args[1]));
+            GameReplay replay = new GameReplay(record);
+            int turn = args.length > 2 ? Integer.parseInt(args[2]) : replay.getTurnCount();
+            System.out.printf("%dx%d seed=%d strategy=%s outcome=%s turn %d of %d%n", record.rows, record.cols,
+                    record.seed, record.strategy, record.outcome, turn, replay.getTurnCount());
+            System.out.print(render(replay.seek(turn)));
+        }
+    }
+
+    /** ASCII drawing with odd rows shifted right: '.' open, '#' blocked, 'C' cat. */
+    static String render(HexBoard board) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < board.getRows(); i++) {
+            if ((i & 1) != 0) sb.append(' ');
+            for (int j = 0; j < board.getCols(); j++) {
+                int cell = board.index(i, j);
+                sb.append(board.isCat(cell) ? 'C' : board.isBlocked(cell) ? '#' : '.').append(' ');
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hexgame.metrics;
+
+import com.example.hexgame.algorithms.BoardPathResult;
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.algorithms.SearchScratch;
+import com.example.hexgame.algorithms.SearchSession;
+import com.example.hexgame.model.HexBoard;
+
+/**
+ * Records latency, nodes expanded, heap pushes and allocation of every search
+ * under {@code findPath.<strategy class>}. Heap pushes are read from the
+ * calling thread's {@link SearchScratch}, so they stay 0 for strategies that
+ * keep their own queue. The lean queries are recorded under the same name;
+ * their nodes are read from the scratch as well.
+ */
+public class InstrumentedStrategy implements PathfindingStrategy {
+    private final PathfindingStrategy delegate;
+    private final OperationStats stats;
+
+    public InstrumentedStrategy(PathfindingStrategy delegate) {
+        this.delegate = delegate;
+        this.stats = Metrics.stats("findPath." + delegate.getClass().getSimpleName());
+    }
+
+    public PathfindingStrategy getDelegate() {
+        return delegate;
+    }
+
+    public BoardPathResult findPath(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        long pushes = scratch.getHeapPushes();
+        long allocated = Metrics.allocatedBytes();
+        long begin = System.nanoTime();
+        BoardPathResult result = delegate.findPath(board, start);
+        long nanos = System.nanoTime() - begin;
+        stats.record(nanos, result.getNodesExplored(), scratch.getHeapPushes() - pushes,
+                Metrics.allocatedSince(allocated), false);
+        return result;
+    }
+
+    public int[] findPathOnly(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        long searches = scratch.getSearchCount(), pushes = scratch.getHeapPushes();
+        long allocated = Metrics.allocatedBytes();
+        long begin = System.nanoTime();
+        int[] path = delegate.findPathOnly(board, start);
+        recordLean(System.nanoTime() - begin, scratch, searches, pushes, allocated);
+        return path;
+    }
+
+    public int findNextStep(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        long searches = scratch.getSearchCount(), pushes = scratch.getHeapPushes();
+        long allocated = Metrics.allocatedBytes();
+        long begin = System.nanoTime();
+        int step = delegate.findNextStep(board, start);
+        recordLean(System.nanoTime() - begin, scratch, searches, pushes, allocated);
+        return step;
+    }
+
+    public int findDistance(HexBoard board, int start) {
+        SearchScratch scratch = SearchScratch.current();
+        long searches = scratch.getSearchCount(), pushes = scratch.getHeapPushes();
+        long allocated = Metrics.allocatedBytes();
+        long begin = System.nanoTime();
+        int distance = delegate.findDistance(board, start);
+        recordLean(System.nanoTime() - begin, scratch, searches, pushes, allocated);
+        return distance;
+    }
+
+    private void recordLean(long nanos, SearchScratch scratch, long searches, long pushes, long allocated) {
+        // Strategies with their own working memory leave the scratch untouched
+        int nodes = scratch.getSearchCount() != searches ? scratch.getExploredCount() : 0;
+        stats.record(nanos, nodes, scratch.getHeapPushes() - pushes, Metrics.allocatedSince(allocated), false);
+    }
+
+    /** Sessions are not timed; their work is spread over the caller's own schedule. */
+    public SearchSession openSession(HexBoard board, int start) {
+        return delegate.openSession(board, start);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.hexgame.metrics;
+
+import com.example.hexgame.algorithms.PathfindingStrategy;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Switch and registry for the hot-path instrumentation. Metrics are off
+ * unless the JVM starts with {@code -Dhexgame.metrics=true}; the flag is a
+ * static final constant, so with metrics off every guarded call site compiles
+ * down to the plain call.
+ *
+ * <p>When on, each operation is also registered as an MXBean under
+ * {@code com.example.hexgame:type=Operation}, and a periodic dump starts if
+ * {@code hexgame.metrics.report} names {@code stdout}, {@code stderr} or a
+ * file ({@code hexgame.metrics.format} text or csv, every
+ * {@code hexgame.metrics.period} seconds, default 10).
+ */
+public final class Metrics {
+    public static final boolean ENABLED = Boolean.getBoolean("hexgame.metrics");
+
+    private static final ConcurrentSkipListMap<String, OperationStats> OPERATIONS = new ConcurrentSkipListMap<>();
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    static {
+        if (ENABLED) startConfiguredReporter();
+    }
+
+    private Metrics() {
+    }
+
+    /** The stats registered under {@code name}, created on first use. */
+    public static OperationStats stats(String name) {
+        return OPERATIONS.computeIfAbsent(name, n -> {
+            OperationStats stats = new OperationStats(n);
+            if (ENABLED) register(stats);
+            return stats;
+        });
+    }
+
+    /** Wraps {@code strategy} so its searches are recorded; returns it unchanged when metrics are off. */
+    public static PathfindingStrategy instrument(PathfindingStrategy strategy) {
+        if (!ENABLED || strategy instanceof InstrumentedStrategy) return strategy;
+        return new InstrumentedStrategy(strategy);
+    }
+
+    /** Bytes allocated so far by the calling thread, or -1 if the JVM cannot tell. */
+    public static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /** Difference of two {@link #allocatedBytes} readings, keeping -1 for unknown. */
+    public static long allocatedSince(long before) {
+        return before < 0 ? -1 : allocatedBytes() - before;
+    }
+
+    public static List<OperationStats.Snapshot> snapshot() {
+        List<OperationStats.Snapshot> snapshots = new ArrayList<>();
+        for (OperationStats stats : OPERATIONS.values()) snapshots.add(stats.snapshot());
+        return snapshots;
+    }
+
+    public static void reset() {
+        for (OperationStats stats : OPERATIONS.values()) stats.reset();
+    }
+
+    private static void register(OperationStats stats) {
+        try {
+            ObjectName name = new ObjectName("com.example.hexgame:type=Operation,name="
+                    + ObjectName.quote(stats.getName()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stats, name);
+        } catch (JMException e) {
+            System.err.println("Could not register metrics MBean " + stats.getName() + ": " + e);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) return null;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    private static void startConfiguredReporter() {
+        String target = System.getProperty("hexgame.metrics.report");
+        if (target == null) return;
+        PrintStream out;
+        if (target.equals("stdout")) {
+            out = System.out;
+        } else if (target.equals("stderr")) {
+            out = System.err;
+        } else {
+            try {
+                out = new PrintStream(new FileOutputStream(target, true), true);
+            } catch (FileNotFoundException e) {
+                System.err.println("Could not open metrics report " + target + ": " + e.getMessage());
+                return;
+            }
+        }
+        MetricsReporter.Format format = "csv".equalsIgnoreCase(System.getProperty("hexgame.metrics.format"))
+                ? MetricsReporter.Format.CSV : MetricsReporter.Format.TEXT;
+        long period = Long.getLong("hexgame.metrics.period", 10);
+        new MetricsReporter(out, format).start(period * 1000);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.hexgame.metrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes every operation's totals since start or the last reset,
+ * as aligned text or as CSV rows with a single header.
+ */
+public class MetricsReporter implements AutoCloseable {
+    public enum Format { TEXT, CSV }
+
+    private static final String CSV_HEADER = "timestamp,operation,calls,mean_ns,p50_ns,p90_ns,p99_ns,max_ns,"
+            + "nodes_per_call,heap_pushes_per_call,hit_ratio,alloc_bytes_per_call";
+
+    private final PrintStream out;
+    private final Format format;
+    private ScheduledExecutorService timer;
+    private boolean headerWritten = false;
+
+    public MetricsReporter(PrintStream out, Format format) {
+        this.out = out;
+        this.format = format;
+    }
+
+    /** Reports every {@code periodMillis} on a daemon thread. */
+    public synchronized void start(long periodMillis) {
+        if (timer != null) throw new IllegalStateException("Reporter already started");
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hexgame-metrics");
+            t.setDaemon(true);
+            return t;
+        });
+        timer.scheduleAtFixedRate(this::report, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void report() {
+        long now = System.currentTimeMillis();
+        if (format == Format.CSV && !headerWritten) {
+            out.println(CSV_HEADER);
+            headerWritten = true;
+        }
+        for (OperationStats.Snapshot s : Metrics.snapshot()) {
+            if (s.getCalls() == 0) continue;
+            if (format == Format.CSV) {
+                out.printf("%d,%s,%d,%.1f,%d,%d,%d,%d,%.2f,%.2f,%.4f,%.1f%n", now, s.name, s.getCalls(),
+                        s.latency.getMean(), s.latency.getValueAtPercentile(50),
+                        s.latency.getValueAtPercentile(90), s.latency.getValueAtPercentile(99),
+                        s.latency.getMax(), s.perCall(s.nodes), s.perCall(s.heapPushes), s.perCall(s.hits),
+                        s.perCall(s.allocatedBytes));
+            } else {
+                out.printf("%-32s (us) %s nodes/call=%.1f pushes/call=%.1f hit=%.1f%% alloc/call=%.0fB%n",
+                        s.name, s.latency.format(1e3), s.perCall(s.nodes), s.perCall(s.heapPushes),
+                        100 * s.perCall(s.hits), s.perCall(s.allocatedBytes));
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (timer != null) timer.shutdown();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.hexgame.metrics;
+
+import com.example.hexgame.utils.LatencyHistogram;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Counters and a latency histogram for one instrumented operation. Each
+ * thread records into its own slot, so recording never contends; readers
+ * merge the slots.
+ */
+public class OperationStats implements OperationStatsMXBean {
+    private final String name;
+    private final List<Recorder> recorders = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Recorder> local = ThreadLocal.withInitial(this::newRecorder);
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one call. {@code nodes} and {@code heapPushes} are 0 where they do
+     * not apply, {@code hit} is for caches, and {@code allocatedBytes} is -1 when
+     * the JVM cannot measure it.
+     */
+    public void record(long nanos, long nodes, long heapPushes, long allocatedBytes, boolean hit) {
+        Recorder r = local.get();
+        synchronized (r) {
+            r.latency.record(nanos);
+            r.nodes += nodes;
+            r.heapPushes += heapPushes;
+            if (allocatedBytes >= 0) r.allocatedBytes += allocatedBytes;
+            if (hit) r.hits++;
+        }
+    }
+
+    /** Merges every thread's recordings into a consistent copy. */
+    public Snapshot snapshot() {
+        Snapshot s = new Snapshot(name);
+        for (Recorder r : recorders) {
+            synchronized (r) {
+                s.latency.merge(r.latency);
+                s.nodes += r.nodes;
+                s.heapPushes += r.heapPushes;
+                s.allocatedBytes += r.allocatedBytes;
+                s.hits += r.hits;
+            }
+        }
+        return s;
+    }
+
+    @Override
+    public void reset() {
+        for (Recorder r : recorders) {
+            synchronized (r) {
+                r.latency.reset();
+                r.nodes = r.heapPushes = r.allocatedBytes = r.hits = 0;
+            }
+        }
+    }
+
+    @Override
+    public long getCalls() {
+        return snapshot().getCalls();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return snapshot().latency.getMean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return snapshot().latency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return snapshot().latency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return snapshot().latency.getMax();
+    }
+
+    @Override
+    public double getNodesPerCall() {
+        Snapshot s = snapshot();
+        return s.perCall(s.nodes);
+    }
+
+    @Override
+    public double getHeapPushesPerCall() {
+        Snapshot s = snapshot();
+        return s.perCall(s.heapPushes);
+    }
+
+    @Override
+    public double getHitRatio() {
+        Snapshot s = snapshot();
+        return s.perCall(s.hits);
+    }
+
+    @Override
+    public double getAllocatedBytesPerCall() {
+        Snapshot s = snapshot();
+        return s.perCall(s.allocatedBytes);
+    }
+
+    private Recorder newRecorder() {
+        Recorder r = new Recorder();
+        recorders.add(r);
+        return r;
+    }
+
+    private static class Recorder {
+        final LatencyHistogram latency = new LatencyHistogram();
+        long nodes, heapPushes, allocatedBytes, hits;
+    }
+
+    /** Point-in-time totals of an operation. */
+    public static class Snapshot {
+        public final String name;
+        public final LatencyHistogram latency = new LatencyHistogram();
+        public long nodes, heapPushes, allocatedBytes, hits;
+
+        Snapshot(String name) {
+            this.name = name;
+        }
+
+        public long getCalls() {
+            return latency.getCount();
+        }
+
+        public double perCall(long total) {
+            return getCalls() == 0 ? 0 : (double) total / getCalls();
+        }
+    }
+}
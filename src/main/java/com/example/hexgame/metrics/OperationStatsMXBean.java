@@ -0,0 +1,26 @@
+package com.example.hexgame.metrics;
+
+/**
+ * JMX view of one {@link OperationStats}. Times are in nanoseconds.
+ */
+public interface OperationStatsMXBean {
+    long getCalls();
+
+    double getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getMaxNanos();
+
+    double getNodesPerCall();
+
+    double getHeapPushesPerCall();
+
+    double getHitRatio();
+
+    double getAllocatedBytesPerCall();
+
+    void reset();
+}
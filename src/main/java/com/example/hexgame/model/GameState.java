@@ -0,0 +1,149 @@
+package com.example.hexgame.model;
+
+import com.example.hexgame.algorithms.ConnectivityOracle;
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.metrics.Metrics;
+import com.example.hexgame.metrics.OperationStats;
+import com.example.hexgame.utils.BoardGenerator;
+import com.example.hexgame.utils.PathState;
+
+import java.util.Random;
+
+/**
+ * The rules of one game without any UI: the trapper blocks a cell, then the
+ * cat takes one step along the active strategy's path. The cat is trapped when
+ * it has no path left and escapes once it stands on the border. A
+ * {@link ConnectivityOracle} follows the blocks, so a trapped cat is detected
+ * without running the path search.
+ */
+public class GameState {
+    public enum Status { PLAYING, TRAPPED, ESCAPED }
+
+    private static final OperationStats TURN = Metrics.stats("GameState.play");
+
+    private final HexBoard board;
+    private final PathState pathState;
+    private final ConnectivityOracle oracle;
+    private Status status = Status.PLAYING;
+    private int moves = 0;
+    private BoardGenerator generator;
+
+    public GameState(int rows, int cols) {
+        this(new HexBoard(rows, cols));
+    }
+
+    public GameState(HexBoard board) {
+        this(board, new PathState(board));
+    }
+
+    public GameState(HexBoard board, PathState pathState) {
+        this.board = board;
+        this.pathState = pathState;
+        this.oracle = new ConnectivityOracle(board);
+    }
+
+    public HexBoard getBoard() {
+        return board;
+    }
+
+    public PathState getPathState() {
+        return pathState;
+    }
+
+    public ConnectivityOracle getOracle() {
+        return oracle;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isOver() {
+        return status != Status.PLAYING;
+    }
+
+    public int getMoves() {
+        return moves;
+    }
+
+    public int getCat() {
+        return board.getCat();
+    }
+
+    public void setStrategy(PathfindingStrategy strategy) {
+        pathState.setStrategy(strategy);
+    }
+
+    /** Clears the board, puts the cat in the centre and generates obstacles that leave it an escape route. */
+    public void reset(Random rand) {
+        reset();
+        if (generator == null) generator = new BoardGenerator();
+        generator.generate(board, rand.nextLong());
+    }
+
+    /** Clears the board and puts the cat in the centre, leaving obstacle placement to the caller. */
+    public void reset() {
+        board.clear();
+        board.setCat(board.index(board.getRows() / 2, board.getCols() / 2));
+        status = Status.PLAYING;
+        moves = 0;
+    }
+
+    /** Whether the trapper may block {@code cell} now. */
+    public boolean canBlock(int cell) {
+        return status == Status.PLAYING && cell >= 0 && cell < board.size()
+                && !board.isBlocked(cell) && !board.isCat(cell);
+    }
+
+    /** Blocks {@code cell} and lets the cat answer; false if the move was not legal. */
+    public boolean play(int cell) {
+        if (!Metrics.ENABLED) return playTurn(cell);
+        long allocated = Metrics.allocatedBytes();
+        long begin = System.nanoTime();
+        boolean played = playTurn(cell);
+        long nanos = System.nanoTime() - begin;
+        if (played) TURN.record(nanos, 0, 0, Metrics.allocatedSince(allocated), false);
+        return played;
+    }
+
+    private boolean playTurn(int cell) {
+        if (!block(cell)) return false;
+        moveCat();
+        return true;
+    }
+
+    /** The trapper's half of a turn. */
+    public boolean block(int cell) {
+        if (!canBlock(cell)) return false;
+        board.setBlocked(cell, true);
+        oracle.cellChanged(cell);
+        moves++;
+        return true;
+    }
+
+    /** The cat's half of a turn: one step along its current path, then the win/lose check. */
+    public void moveCat() {
+        if (status != Status.PLAYING) return;
+        if (!oracle.touchesBorder(board.getCat())) {
+            status = Status.TRAPPED;
+            return;
+        }
+        int step = getCatStep();
+        if (step < 0) {
+            status = Status.TRAPPED;
+            return;
+        }
+        board.setCat(step);
+        if (board.isAtBorder(board.getCat())) status = Status.ESCAPED;
+    }
+
+    /** The cat's current escape path, starting at the cat; empty if it is trapped. */
+    public int[] getCatPath() {
+        return pathState.updatePath(board.getCat());
+    }
+
+    /** The cell the cat moves to next; its own cell on the border, -1 if it is trapped. */
+    public int getCatStep() {
+        return pathState.nextStep(board.getCat());
+    }
+}
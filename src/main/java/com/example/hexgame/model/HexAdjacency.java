@@ -0,0 +1,158 @@
+package com.example.hexgame.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Neighbors of every cell of one board shape, in the order up, down, left,
+ * right, then the two diagonals of the cell's row parity. Each cell keeps one
+ * descriptor byte (which of its six neighbors exist, and its row parity), and
+ * a neighbor is the cell index plus a fixed per-parity offset. Interior cells,
+ * which have all six, take a straight-line path with no bounds checks.
+ *
+ * <p>The descriptors are built on the first lookup, not with the board, and
+ * only for shapes up to {@link #TABLE_LIMIT} cells; bigger shapes test the
+ * row and column of each cell instead, so a huge board costs no extra memory.
+ *
+ * <p>Instances are immutable once built and shared by every board of the same
+ * shape. The shared cache holds them softly, so shapes no board uses any more
+ * can be collected under memory pressure.
+ */
+public final class HexAdjacency {
+    public static final int TABLE_LIMIT = 1 << 22;
+
+    private static final ConcurrentHashMap<Long, ShapeRef> CACHE = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<HexAdjacency> CLEARED = new ReferenceQueue<>();
+    private static final int[] DI = {-1, 1, 0, 0, -1, 1};
+    private static final int[][] DJ = {{0, 0, -1, 1, -1, -1}, {0, 0, -1, 1, 1, 1}};
+    private static final int ALL = 0x3F, ODD_ROW = 0x40;
+
+    private final int rows, cols;
+    private final boolean tableable;
+    /** Descriptors, null until the first lookup and for ever above {@link #TABLE_LIMIT}. */
+    private Table table;
+    private final int[] evenOffsets, oddOffsets;
+
+    private HexAdjacency(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tableable = (long) rows * cols <= TABLE_LIMIT;
+        this.evenOffsets = new int[6];
+        this.oddOffsets = new int[6];
+        for (int k = 0; k < 6; k++) {
+            evenOffsets[k] = DI[k] * cols + DJ[0][k];
+            oddOffsets[k] = DI[k] * cols + DJ[1][k];
+        }
+    }
+
+    /** The shared adjacency of a {@code rows x cols} board. */
+    public static HexAdjacency of(int rows, int cols) {
+        for (Reference<?> ref; (ref = CLEARED.poll()) != null; ) {
+            ShapeRef cleared = (ShapeRef) ref;
+            CACHE.remove(cleared.key, cleared);
+        }
+        long key = ((long) rows << 32) | cols;
+        while (true) {
+            ShapeRef ref = CACHE.get(key);
+            HexAdjacency adjacency = ref == null ? null : ref.get();
+            if (adjacency != null) return adjacency;
+            HexAdjacency created = new HexAdjacency(rows, cols);
+            ShapeRef fresh = new ShapeRef(key, created);
+            boolean stored = ref == null ? CACHE.putIfAbsent(key, fresh) == null : CACHE.replace(key, ref, fresh);
+            if (stored) return created;
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /** Whether cell descriptors are precomputed rather than derived on every lookup. */
+    public boolean isTabled() {
+        return table != null;
+    }
+
+    /** Writes the neighbors of {@code cell} into {@code out} and returns how many there are. */
+    public int get(int cell, int[] out) {
+        Table t = table;
+        if (t == null) {
+            if (!tableable) return compute(cell, out);
+            t = buildTable();
+        }
+        return fromDescriptor(cell, t.shape[cell], out);
+    }
+
+    private int fromDescriptor(int cell, int s, int[] out) {
+        int[] d = (s & ODD_ROW) != 0 ? oddOffsets : evenOffsets;
+        if ((s & ALL) == ALL) {
+            out[0] = cell + d[0];
+            out[1] = cell + d[1];
+            out[2] = cell + d[2];
+            out[3] = cell + d[3];
+            out[4] = cell + d[4];
+            out[5] = cell + d[5];
+            return 6;
+        }
+        int count = 0;
+        for (int k = 0; k < 6; k++) {
+            if ((s & (1 << k)) != 0) out[count++] = cell + d[k];
+        }
+        return count;
+    }
+
+    /** Lookup without a table: interior cells take their parity's offsets, edge cells check each neighbor. */
+    private int compute(int cell, int[] out) {
+        int i = cell / cols, j = cell - i * cols;
+        if (i > 0 && i < rows - 1 && j > 0 && j < cols - 1) {
+            int[] d = (i & 1) != 0 ? oddOffsets : evenOffsets;
+            for (int k = 0; k < 6; k++) out[k] = cell + d[k];
+            return 6;
+        }
+        return fromDescriptor(cell, describe(cell), out);
+    }
+
+    /**
+     * Fills the descriptors once. Threads racing here build equal tables and
+     * any of them may win; the final field publishes a table whole.
+     */
+    private Table buildTable() {
+        byte[] shape = new byte[rows * cols];
+        for (int cell = 0; cell < shape.length; cell++) shape[cell] = (byte) describe(cell);
+        return table = new Table(shape);
+    }
+
+    /** Bit k set when neighbor k lies on the board, plus {@link #ODD_ROW}. */
+    private int describe(int cell) {
+        int i = cell / cols, j = cell - i * cols;
+        int[] dj = DJ[i & 1];
+        int s = (i & 1) != 0 ? ODD_ROW : 0;
+        for (int k = 0; k < 6; k++) {
+            int ni = i + DI[k], nj = j + dj[k];
+            if (ni >= 0 && ni < rows && nj >= 0 && nj < cols) s |= 1 << k;
+        }
+        return s;
+    }
+
+    private static final class Table {
+        final byte[] shape;
+
+        Table(byte[] shape) {
+            this.shape = shape;
+        }
+    }
+
+    private static final class ShapeRef extends SoftReference<HexAdjacency> {
+        final long key;
+
+        ShapeRef(long key, HexAdjacency adjacency) {
+            super(adjacency, CLEARED);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.hexgame.model;
+
+import java.util.Arrays;
+
+/**
+ * Headless board state. Cells are addressed by {@code i * cols + j} and the
+ * blocked flags live in a packed bitset, so a board costs one bit per cell and
+ * never touches AWT. Terrain takes one more byte per cell, allocated only once
+ * a cell gets something other than {@link Terrain#OPEN}.
+ */
+public class HexBoard {
+    private static final int[] STEP_COSTS = stepCosts();
+
+    private final int rows, cols;
+    private final long[] blocked;
+    private final HexAdjacency adjacency;
+    /** Terrain ordinal per cell; null while every cell is open ground. */
+    private byte[] terrain;
+    private final int[] terrainCounts = new int[Terrain.values().length];
+    private int cat = -1;
+    private int blockedCount = 0;
+    private int version = 0;
+    private int unblockVersion = 0;
+    private long hash;
+
+    public HexBoard(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid board size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.blocked = new long[(rows * cols + 63) >>> 6];
+        this.adjacency = HexAdjacency.of(rows, cols);
+        this.hash = Zobrist.shapeKey(rows, cols);
+    }
+
+    public HexBoard(HexBoard other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.blocked = other.blocked.clone();
+        this.adjacency = other.adjacency;
+        this.terrain = other.terrain == null ? null : other.terrain.clone();
+        System.arraycopy(other.terrainCounts, 0, terrainCounts, 0, terrainCounts.length);
+        this.cat = other.cat;
+        this.blockedCount = other.blockedCount;
+        this.version = other.version;
+        this.unblockVersion = other.unblockVersion;
+        this.hash = other.hash;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int size() {
+        return rows * cols;
+    }
+
+    public int index(int i, int j) {
+        return i * cols + j;
+    }
+
+    public int row(int cell) {
+        return cell / cols;
+    }
+
+    public int col(int cell) {
+        return cell % cols;
+    }
+
+    /** Neighbor lookup shared by all boards of this shape. */
+    public HexAdjacency getAdjacency() {
+        return adjacency;
+    }
+
+    public boolean isBlocked(int cell) {
+        return (blocked[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isBlocked(int i, int j) {
+        return isBlocked(index(i, j));
+    }
+
+    /** Blocks or opens {@code cell}; the cat's cell cannot be blocked, move or remove the cat first. */
+    public void setBlocked(int cell, boolean b) {
+        if (b && cell == cat) throw new IllegalArgumentException("Cannot block the cat's cell " + cell);
+        long bit = 1L << cell;
+        int w = cell >>> 6;
+        boolean was = (blocked[w] & bit) != 0;
+        if (was == b) return;
+        hash ^= Zobrist.blockedKey(cell);
+        if (b) {
+            blocked[w] |= bit;
+            blockedCount++;
+        } else {
+            blocked[w] &= ~bit;
+            blockedCount--;
+            unblockVersion++;
+        }
+        version++;
+    }
+
+    public Terrain getTerrain(int cell) {
+        return terrain == null ? Terrain.OPEN : Terrain.of(terrain[cell]);
+    }
+
+    /**
+     * Sets the ground of {@code cell}. It counts as a change that may shorten
+     * paths, like an unblock, since a cheaper cell elsewhere or a dearer one
+     * on a cached path can make that path no longer the cheapest.
+     */
+    public void setTerrain(int cell, Terrain type) {
+        if (getTerrain(cell) == type) return;
+        if (terrain == null) {
+            terrain = new byte[size()];
+            terrainCounts[Terrain.OPEN.ordinal()] = size();
+        }
+        terrainCounts[terrain[cell]]--;
+        terrainCounts[type.ordinal()]++;
+        terrain[cell] = (byte) type.ordinal();
+        version++;
+        unblockVersion++;
+    }
+
+    /** Levels every cell to open ground, leaving blocks and the cat alone. */
+    public void clearTerrain() {
+        if (!hasTerrain()) return;
+        terrain = null;
+        Arrays.fill(terrainCounts, 0);
+        version++;
+        unblockVersion++;
+    }
+
+    /** Whether any cell costs more than one step to enter. */
+    public boolean hasTerrain() {
+        return terrain != null && terrainCounts[Terrain.OPEN.ordinal()] != size();
+    }
+
+    /** Cost of stepping onto {@code cell}; 1 on open ground. */
+    public int getStepCost(int cell) {
+        return terrain == null ? 1 : STEP_COSTS[terrain[cell]];
+    }
+
+    /** Highest step cost of any cell on the board. */
+    public int getMaxStepCost() {
+        for (int t = terrainCounts.length - 1; t > 0; t--) {
+            if (terrainCounts[t] > 0) return STEP_COSTS[t];
+        }
+        return 1;
+    }
+
+    public boolean isCat(int cell) {
+        return cat == cell;
+    }
+
+    public int getCat() {
+        return cat;
+    }
+
+    /** Moves the cat to {@code cell}, or removes it when {@code cell} is -1. */
+    public void setCat(int cell) {
+        if (cell >= 0) setBlocked(cell, false);
+        hash ^= Zobrist.catKey(cat) ^ Zobrist.catKey(cell);
+        cat = cell;
+    }
+
+    public boolean isAtBorder(int cell) {
+        int i = cell / cols, j = cell % cols;
+        return i == 0 || i == rows - 1 || j == 0 || j == cols - 1;
+    }
+
+    public int getBlockedCount() {
+        return blockedCount;
+    }
+
+    /** Counts changes to the blocked set, so callers can tell whether cached state is stale. */
+    public int getVersion() {
+        return version;
+    }
+
+    /** Counts only the changes that opened cells; blocking never shortens a path. */
+    public int getUnblockVersion() {
+        return unblockVersion;
+    }
+
+    /** Zobrist hash of the blocked cells and cat position, kept up to date on every change. */
+    public long getHash() {
+        return hash;
+    }
+
+    /** The 64 blocked flags starting at cell {@code w * 64}. */
+    public long getBlockedWord(int w) {
+        return blocked[w];
+    }
+
+    public int getWordCount() {
+        return blocked.length;
+    }
+
+    /** Opens every cell, removes the cat and levels all terrain. */
+    public void clear() {
+        Arrays.fill(blocked, 0L);
+        terrain = null;
+        Arrays.fill(terrainCounts, 0);
+        blockedCount = 0;
+        cat = -1;
+        hash = Zobrist.shapeKey(rows, cols);
+        version++;
+        unblockVersion++;
+    }
+
+    private static int[] stepCosts() {
+        Terrain[] types = Terrain.values();
+        int[] costs = new int[types.length];
+        for (Terrain t : types) costs[t.ordinal()] = t.getCost();
+        return costs;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.hexgame.model;
+
+/** Ground types, cheapest first, and the cost of stepping onto each. */
+public enum Terrain {
+    OPEN(1), ROUGH(2), FOREST(3), SWAMP(5);
+
+    /** Highest step cost of any terrain. */
+    public static final int MAX_COST = 5;
+
+    private static final Terrain[] VALUES = values();
+
+    private final int cost;
+
+    Terrain(int cost) {
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    static Terrain of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -5,30 +5,53 @@ import java.awt.Color;
 import java.awt.Font;
 
 public class Tile extends JButton {
-    public int i, j;
-    public boolean isBlocked = false, isCat = false;
-    public boolean stateChanged = false;
+    public final int i, j;
+    private final HexBoard board;
+    private final int index;
     private static final Font TILE_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Color EXPLORED = new Color(173, 216, 230); // Light blue
+    private static final Color PATH = new Color(255, 255, 153); // Light yellow
 
-    public Tile(int i, int j) {
+    public Tile(HexBoard board, int i, int j) {
+        this.board = board;
         this.i = i;
         this.j = j;
+        this.index = board.index(i, j);
         setFont(TILE_FONT);
         setFocusPainted(false);
         updateAppearance();
     }
 
+    public HexBoard getBoard() {
+        return board;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isBlocked() {
+        return board.isBlocked(index);
+    }
+
+    public boolean isCat() {
+        return board.isCat(index);
+    }
+
+    /** Blocking the cat's tile takes the cat off the board, as the tile only shows one of the two. */
     public void setBlocked(boolean b) {
-        isBlocked = b;
-        isCat = false;
-        stateChanged = true;
+        if (b && board.isCat(index)) board.setCat(-1);
+        board.setBlocked(index, b);
         updateAppearance();
     }
 
     public void setCat(boolean c) {
-        isCat = c;
-        isBlocked = false;
-        stateChanged = true;
+        if (c) {
+            board.setCat(index);
+        } else {
+            if (board.isCat(index)) board.setCat(-1);
+            board.setBlocked(index, false);
+        }
         updateAppearance();
     }
 
@@ -36,27 +59,26 @@ public class Tile extends JButton {
         setBackground(null);
         setOpaque(false);
         setBorderPainted(true);
-        stateChanged = false;
         updateAppearance();
     }
 
     public void highlightExplored() {
-        setBackground(new Color(173, 216, 230)); // Light blue
+        setBackground(EXPLORED);
         setOpaque(true);
         setBorderPainted(false);
     }
 
     public void highlightPath() {
-        setBackground(new Color(255, 255, 153)); // Light yellow
+        setBackground(PATH);
         setOpaque(true);
         setBorderPainted(false);
     }
 
     public void updateAppearance() {
-        if (isCat) {
+        if (isCat()) {
             setText("😼");
             setForeground(Color.BLACK);
-        } else if (isBlocked) {
+        } else if (isBlocked()) {
             setText("🚧");
             setForeground(Color.RED);
         } else {
@@ -0,0 +1,33 @@
+package com.example.hexgame.model;
+
+/**
+ * 64-bit Zobrist keys for board features. Keys are derived from the cell index
+ * with a SplitMix64 finalizer instead of a lookup table, so hashing costs no
+ * memory however large the board.
+ */
+public final class Zobrist {
+    private static final long BLOCKED = 0x632BE59BD9B4E019L;
+    private static final long CAT = 0x8CB92BA72F3D8DD7L;
+
+    private Zobrist() {
+    }
+
+    public static long blockedKey(int cell) {
+        return mix(cell * 0x9E3779B97F4A7C15L + BLOCKED);
+    }
+
+    public static long catKey(int cell) {
+        return cell < 0 ? 0L : mix(cell * 0x9E3779B97F4A7C15L + CAT);
+    }
+
+    /** Starting hash of an empty board, so equal layouts on different shapes differ. */
+    public static long shapeKey(int rows, int cols) {
+        return mix(((long) rows << 32 | cols) ^ 0xD1B54A32D192ED03L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.hexgame.server;
+
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.sim.SimulatorCli;
+
+import java.util.function.Supplier;
+
+/**
+ * One request line of the game protocol, parsed. Every request names the
+ * game it is for with a number the client picks, unique on its connection:
+ * <pre>
+ *   NEW   id rows cols seed [strategy]   start or restart game id
+ *   BLOCK id cell                        block a cell; the cat answers
+ *   PATH  id                             the cat's current escape path
+ *   STATE id                             status, cat cell and move count
+ *   END   id                             drop the game's board
+ * </pre>
+ * Replies start with the same id: {@code id STATE status cat moves},
+ * {@code id PATH length cells...}, {@code id END} or {@code id ERR message}.
+ * Requests for one id are answered in order, except that a line which does
+ * not parse is answered at once. An id stays bound to its game until the
+ * connection closes; {@code NEW} on it again starts a fresh board.
+ */
+final class Command {
+    enum Kind { NEW, BLOCK, PATH, STATE, END }
+
+    /** Largest board a client may ask for. */
+    static final int MAX_CELLS = 1 << 20;
+
+    final Kind kind;
+    final int game;
+    final int rows, cols, cell;
+    final long seed;
+    final String strategyName;
+    final Supplier<PathfindingStrategy> strategy;
+
+    private Command(Kind kind, int game, int rows, int cols, long seed, String strategyName, int cell) {
+        this.kind = kind;
+        this.game = game;
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.strategyName = strategyName;
+        this.strategy = strategyName == null ? null : SimulatorCli.parseCat(strategyName);
+        this.cell = cell;
+    }
+
+    static Command parse(String line) {
+        String[] words = line.trim().split(" +");
+        if (words.length < 2) throw new IllegalArgumentException("Expected a command and a game id");
+        Kind kind;
+        try {
+            kind = Kind.valueOf(words[0]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown command " + words[0]);
+        }
+        int game = Integer.parseInt(words[1]);
+        switch (kind) {
+            case NEW: {
+                if (words.length != 5 && words.length != 6) throw new IllegalArgumentException("Usage: NEW id rows cols seed [strategy]");
+                int rows = Integer.parseInt(words[2]), cols = Integer.parseInt(words[3]);
+                if (rows <= 0 || cols <= 0 || (long) rows * cols > MAX_CELLS) {
+                    throw new IllegalArgumentException("Invalid board size " + rows + "x" + cols);
+                }
+                return new Command(kind, game, rows, cols, Long.parseLong(words[4]), words.length == 6 ? words[5] : "bfs", -1);
+            }
+            case BLOCK:
+                if (words.length != 3) throw new IllegalArgumentException("Usage: BLOCK id cell");
+                return new Command(kind, game, 0, 0, 0, null, Integer.parseInt(words[2]));
+            default:
+                if (words.length != 2) throw new IllegalArgumentException("Usage: " + kind + " id");
+                return new Command(kind, game, 0, 0, 0, null, -1);
+        }
+    }
+
+    /** The error reply to {@code line}, addressed to its game id when there is one. */
+    static String error(String line, String message) {
+        String[] words = line.trim().split(" +", 3);
+        String game = words.length > 1 && words[1].matches("-?\\d{1,10}") ? words[1] : "-";
+        return game + " ERR " + message;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.hexgame.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A client socket and the games it owns. Input is read and split into lines
+ * on the selector thread, which also owns {@link #games}. Replies come from
+ * any worker: they are appended to a shared output buffer, and the first one
+ * after a flush asks the selector thread to write.
+ */
+final class Connection {
+    /** Longest request line accepted. */
+    static final int MAX_LINE = 256;
+    /** Game ids one connection may use. */
+    static final int MAX_GAMES = 1 << 16;
+    /** Unsent reply bytes after which a client that does not read is dropped. */
+    static final int MAX_PENDING = 1 << 20;
+
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ByteBuffer in = ByteBuffer.allocate(MAX_LINE);
+    final Map<Integer, GameSession> games = new HashMap<>();
+    private final GameServer server;
+    private ByteBuffer out = ByteBuffer.allocate(4096);
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private volatile boolean closed;
+
+    Connection(GameServer server, SocketChannel channel, SelectionKey key) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /** Queues one reply line; safe from any thread, and a no-op once closed. */
+    void send(String line) {
+        if (closed) return;
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        synchronized (this) {
+            if (out.remaining() < bytes.length + 1) {
+                if (out.position() + bytes.length + 1 > MAX_PENDING) {
+                    closed = true;
+                } else {
+                    ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() << 1, out.position() + bytes.length + 1));
+                    out.flip();
+                    grown.put(out);
+                    out = grown;
+                }
+            }
+            if (!closed) out.put(bytes).put((byte) '\n');
+        }
+        if (flushQueued.compareAndSet(false, true)) server.requestFlush(this);
+    }
+
+    /** Writes what the socket takes; selector thread only. Returns whether output is left over. */
+    boolean flush() throws IOException {
+        flushQueued.set(false);
+        synchronized (this) {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            return out.position() > 0;
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        games.clear();
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing left to tell the client
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.hexgame.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts many independent games over a line protocol (see {@link Command}).
+ * One selector thread accepts clients, reads and parses requests and writes
+ * replies; each game is a {@link GameSession} actor whose turns run on a
+ * shared work-stealing pool, so thousands of games need only as many threads
+ * as there are cores. Requests to one game are answered in order; replies
+ * for different games on the same connection may interleave.
+ */
+public class GameServer implements AutoCloseable {
+    private final ServerSocketChannel acceptor;
+    private final Selector selector;
+    private final ForkJoinPool workers;
+    private final ConcurrentLinkedQueue<Connection> flushes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final Thread ioThread;
+    private volatile boolean running = true;
+
+    /** Listens on the loopback interface; port 0 picks a free one. */
+    public GameServer(int port, int threads) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), threads);
+    }
+
+    public GameServer(InetSocketAddress address, int threads) throws IOException {
+        if (threads <= 0) throw new IllegalArgumentException("Invalid thread count " + threads);
+        this.selector = Selector.open();
+        this.acceptor = ServerSocketChannel.open();
+        acceptor.bind(address);
+        acceptor.configureBlocking(false);
+        acceptor.register(selector, SelectionKey.OP_ACCEPT);
+        // Async mode runs queued sessions in FIFO order, which suits event-style tasks
+        this.workers = new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.ioThread = new Thread(this::loop, "game-server-io");
+    }
+
+    public void start() {
+        ioThread.start();
+    }
+
+    public int getPort() {
+        return acceptor.socket().getLocalPort();
+    }
+
+    /** Game ids in use on all open connections. */
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            ioThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) ((Connection) key.attachment()).close();
+        }
+        acceptor.close();
+        selector.close();
+    }
+
+    /** Called by a connection that has new output; the selector thread writes it. */
+    void requestFlush(Connection connection) {
+        flushes.add(connection);
+        selector.wakeup();
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                selector.select();
+                Connection pending;
+                while ((pending = flushes.poll()) != null) flush(pending);
+
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) read(connection);
+                    if (key.isValid() && key.isWritable()) flush(connection);
+                }
+            } catch (IOException e) {
+                if (running) System.err.println("game server: " + e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = acceptor.accept();
+        if (channel == null) return;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(this, channel, key));
+    }
+
+    private void read(Connection connection) {
+        ByteBuffer in = connection.in;
+        int read;
+        try {
+            read = connection.channel.read(in);
+        } catch (IOException e) {
+            read = -1;
+        }
+        if (read < 0) {
+            drop(connection);
+            return;
+        }
+        in.flip();
+        int start = 0;
+        for (int k = 0; k < in.limit(); k++) {
+            if (in.get(k) != '\n') continue;
+            String line = new String(in.array(), start, k - start, StandardCharsets.US_ASCII);
+            if (!line.isBlank()) dispatch(connection, line);
+            start = k + 1;
+        }
+        in.position(start);
+        in.compact();
+        // A full buffer without a line break is not the protocol; give up on the client
+        if (!in.hasRemaining()) drop(connection);
+    }
+
+    private void dispatch(Connection connection, String line) {
+        Command command;
+        try {
+            command = Command.parse(line);
+        } catch (IllegalArgumentException e) {
+            connection.send(Command.error(line, e.getMessage()));
+            return;
+        }
+        GameSession session = connection.games.get(command.game);
+        if (session == null) {
+            if (command.kind != Command.Kind.NEW) {
+                connection.send(command.game + " ERR no game");
+                return;
+            }
+            if (connection.games.size() == Connection.MAX_GAMES) {
+                connection.send(command.game + " ERR too many games");
+                return;
+            }
+            session = new GameSession(command.game, connection, workers);
+            connection.games.put(command.game, session);
+            sessions.incrementAndGet();
+        }
+        session.submit(command);
+    }
+
+    private void flush(Connection connection) {
+        if (!connection.key.isValid()) return;
+        if (connection.isClosed()) {
+            drop(connection);
+            return;
+        }
+        try {
+            boolean left = connection.flush();
+            connection.key.interestOps(left ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        } catch (IOException e) {
+            drop(connection);
+        }
+    }
+
+    private void drop(Connection connection) {
+        sessions.addAndGet(-connection.games.size());
+        connection.close();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.hexgame.server;
+
+import com.example.hexgame.model.GameState;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One game on the server, run as an actor: requests queue up in its mailbox
+ * and at most one worker drains it at a time, so the game state has a single
+ * writer and needs no locks. A session that empties its mailbox gives its
+ * worker back; a busy one yields after {@link #BATCH} requests so that other
+ * games on the same pool are not starved.
+ */
+final class GameSession implements Runnable {
+    static final int BATCH = 32;
+
+    private final int id;
+    private final Connection connection;
+    private final Executor workers;
+    private final ConcurrentLinkedQueue<Command> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private GameState state;
+    private String strategyName;
+
+    GameSession(int id, Connection connection, Executor workers) {
+        this.id = id;
+        this.connection = connection;
+        this.workers = workers;
+    }
+
+    /** Queues {@code command}; called only from the selector thread. */
+    void submit(Command command) {
+        mailbox.add(command);
+        if (scheduled.compareAndSet(false, true)) workers.execute(this);
+    }
+
+    @Override
+    public void run() {
+        for (int k = 0; k < BATCH; k++) {
+            Command command = mailbox.poll();
+            if (command == null) break;
+            String reply;
+            try {
+                reply = handle(command);
+            } catch (RuntimeException e) {
+                reply = id + " ERR " + e;
+            }
+            connection.send(reply);
+        }
+        scheduled.set(false);
+        // A request that arrived after the last poll would otherwise wait for the next one
+        if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) workers.execute(this);
+    }
+
+    private String handle(Command command) {
+        if (command.kind == Command.Kind.NEW) {
+            if (state == null || state.getBoard().getRows() != command.rows || state.getBoard().getCols() != command.cols) {
+                state = new GameState(command.rows, command.cols);
+                strategyName = null;
+            }
+            if (!command.strategyName.equals(strategyName)) {
+                state.setStrategy(command.strategy.get());
+                strategyName = command.strategyName;
+            }
+            state.reset(new Random(command.seed));
+            return describe();
+        }
+        if (state == null) return id + " ERR no game";
+        switch (command.kind) {
+            case BLOCK:
+                if (state.isOver()) return id + " ERR game over";
+                if (!state.play(command.cell)) return id + " ERR cannot block " + command.cell;
+                return describe();
+            case PATH: {
+                int[] path = state.getCatPath();
+                StringBuilder sb = new StringBuilder(16 + path.length * 4).append(id).append(" PATH ").append(path.length);
+                for (int cell : path) sb.append(' ').append(cell);
+                return sb.toString();
+            }
+            case STATE:
+                return describe();
+            default:
+                state = null;
+                strategyName = null;
+                return id + " END";
+        }
+    }
+
+    private String describe() {
+        return id + " STATE " + state.getStatus() + " " + state.getCat() + " " + state.getMoves();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.hexgame.server;
+
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.utils.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Closed-loop load for {@link GameServer}: every connection keeps a number of
+ * games going, each with one request in flight, and blocks a random open cell
+ * as soon as the previous turn is answered. A finished game is restarted with
+ * the next seed. Each client rebuilds the server's starting board from the
+ * seed, so it only ever sends legal blocks. Reports turn and game-start round
+ * trip latencies measured after the warm-up.
+ */
+public class LoadGenerator {
+    static final String USAGE = String.join(System.lineSeparator(),
+            "usage: load [options]",
+            "  --port N           server to load on loopback; without it one is started in-process",
+            "  --threads N        worker threads of the in-process server (all cores)",
+            "  --connections N    client connections (8)",
+            "  --games N          concurrent games per connection (125)",
+            "  --seconds N        measured run time (10)",
+            "  --warmup N         seconds before measuring (2)",
+            "  --rows N --cols N  board size (11x11)",
+            "  --cat S            cat strategy name, as for sim (bfs)",
+            "  --seed N           base seed (1)");
+
+    public static void main(String[] args) throws Exception {
+        int port = -1, threads = Runtime.getRuntime().availableProcessors();
+        int connections = 8, games = 125, seconds = 10, warmup = 2, rows = 11, cols = 11;
+        String cat = "bfs";
+        long seed = 1;
+        try {
+            for (int k = 0; k < args.length; k++) {
+                String option = args[k];
+                if (option.equals("--help") || option.equals("-h")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (k + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++k];
+                switch (option) {
+                    case "--port": port = Integer.parseInt(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    case "--connections": connections = Integer.parseInt(value); break;
+                    case "--games": games = Integer.parseInt(value); break;
+                    case "--seconds": seconds = Integer.parseInt(value); break;
+                    case "--warmup": warmup = Integer.parseInt(value); break;
+                    case "--rows": rows = Integer.parseInt(value); break;
+                    case "--cols": cols = Integer.parseInt(value); break;
+                    case "--cat": cat = value; break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (connections <= 0 || games <= 0 || seconds <= 0 || warmup < 0) throw new IllegalArgumentException("Invalid load shape");
+            Command.parse("NEW 0 " + rows + " " + cols + " 0 " + cat);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        GameServer server = null;
+        if (port < 0) {
+            server = new GameServer(0, threads);
+            server.start();
+            port = server.getPort();
+        }
+        try {
+            long measureFrom = System.nanoTime() + warmup * 1_000_000_000L;
+            long deadline = measureFrom + seconds * 1_000_000_000L;
+            Client[] clients = new Client[connections];
+            Thread[] running = new Thread[connections];
+            for (int c = 0; c < connections; c++) {
+                clients[c] = new Client(port, games, rows, cols, cat, seed + (long) c * games, measureFrom, deadline);
+                running[c] = new Thread(clients[c], "load-client-" + c);
+                running[c].start();
+            }
+
+            LatencyHistogram turns = new LatencyHistogram(), starts = new LatencyHistogram();
+            long finished = 0, errors = 0;
+            for (int c = 0; c < connections; c++) {
+                running[c].join();
+                if (clients[c].failure != null) throw clients[c].failure;
+                turns.merge(clients[c].turns);
+                starts.merge(clients[c].starts);
+                finished += clients[c].finished;
+                errors += clients[c].errors;
+            }
+            System.out.printf("connections=%d games=%d board=%dx%d cat=%s seconds=%d%n",
+                    connections, connections * games, rows, cols, cat, seconds);
+            System.out.printf("turns=%d (%.0f/s) finished=%d errors=%d%n",
+                    turns.getCount(), turns.getCount() / (double) seconds, finished, errors);
+            System.out.println("turn  (us) " + turns.format(1000));
+            System.out.println("start (us) " + starts.format(1000));
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+
+    /** One connection and its games, driven by one thread with blocking I/O. */
+    static final class Client implements Runnable {
+        final LatencyHistogram turns = new LatencyHistogram(), starts = new LatencyHistogram();
+        long finished, errors;
+        Exception failure;
+
+        private final int port, rows, cols;
+        private final String cat;
+        private final long measureFrom, deadline;
+        private final GameState[] mirrors;
+        private final long[] seeds, sentAt;
+        private final boolean[] starting;
+        private final SplittableRandom rand;
+
+        Client(int port, int games, int rows, int cols, String cat, long seed, long measureFrom, long deadline) {
+            this.port = port;
+            this.rows = rows;
+            this.cols = cols;
+            this.cat = cat;
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+            this.mirrors = new GameState[games];
+            this.seeds = new long[games];
+            this.sentAt = new long[games];
+            this.starting = new boolean[games];
+            this.rand = new SplittableRandom(seed);
+            for (int g = 0; g < games; g++) {
+                mirrors[g] = new GameState(rows, cols);
+                seeds[g] = seed + g;
+            }
+        }
+
+        @Override
+        public void run() {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.setTcpNoDelay(true);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+                for (int g = 0; g < mirrors.length; g++) start(g, writer);
+                writer.flush();
+
+                int outstanding = mirrors.length;
+                while (outstanding > 0) {
+                    String line = reader.readLine();
+                    if (line == null) throw new EOFException("Server closed the connection");
+                    long now = System.nanoTime();
+                    String[] words = line.split(" ");
+                    int g = Integer.parseInt(words[0]);
+                    if (sentAt[g] >= measureFrom && now < deadline) (starting[g] ? starts : turns).record(now - sentAt[g]);
+
+                    if (now >= deadline) {
+                        outstanding--;
+                    } else if (!words[1].equals("STATE")) {
+                        errors++;
+                        start(g, writer);
+                    } else if (!words[2].equals("PLAYING")) {
+                        finished++;
+                        seeds[g] += mirrors.length;
+                        start(g, writer);
+                    } else {
+                        mirrors[g].getBoard().setCat(Integer.parseInt(words[3]));
+                        block(g, writer);
+                    }
+                    if (!reader.ready()) writer.flush();
+                }
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        private void start(int g, Writer writer) throws IOException {
+            mirrors[g].reset(new Random(seeds[g]));
+            starting[g] = true;
+            sentAt[g] = System.nanoTime();
+            writer.write("NEW " + g + " " + rows + " " + cols + " " + seeds[g] + " " + cat + "\n");
+        }
+
+        private void block(int g, Writer writer) throws IOException {
+            GameState mirror = mirrors[g];
+            int cell;
+            do {
+                cell = rand.nextInt(mirror.getBoard().size());
+            } while (!mirror.canBlock(cell));
+            mirror.block(cell);
+            starting[g] = false;
+            sentAt[g] = System.nanoTime();
+            writer.write("BLOCK " + g + " " + cell + "\n");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hexgame.server;
+
+import java.io.IOException;
+
+/**
+ * Command line front end of {@link GameServer}; runs until killed.
+ */
+public class ServerCli {
+    static final String USAGE = String.join(System.lineSeparator(),
+            "usage: server [options]",
+            "  --port N           loopback port to listen on (7411)",
+            "  --threads N        worker threads (all cores)");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 7411;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int k = 0; k < args.length; k++) {
+                String option = args[k];
+                if (option.equals("--help") || option.equals("-h")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (k + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++k];
+                switch (option) {
+                    case "--port": port = Integer.parseInt(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        GameServer server = new GameServer(port, threads);
+        server.start();
+        System.out.println("listening on port " + server.getPort() + " with " + threads + " worker threads");
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.hexgame.sim;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.BoardGenerator;
+import com.example.hexgame.utils.ObstaclePlacer;
+
+import java.util.Random;
+
+/**
+ * Places the starting obstacles of a simulated game on a board that holds
+ * only the cat.
+ */
+public interface ObstaclePolicy {
+
+    void place(HexBoard board, Random rand);
+
+    static ObstaclePolicy none() {
+        return (board, rand) -> { };
+    }
+
+    /** {@link BoardGenerator} at {@code density}; the cat always keeps an escape route. */
+    static ObstaclePolicy generated(double density) {
+        if (density < 0 || density >= 1) throw new IllegalArgumentException("Invalid density " + density);
+        ThreadLocal<BoardGenerator> generators = ThreadLocal.withInitial(() -> new BoardGenerator(density));
+        return (board, rand) -> generators.get().generate(board, rand.nextLong());
+    }
+
+    /** The original cluster layout with at least {@code minObstacles} blocks. */
+    static ObstaclePolicy clusters(int minObstacles) {
+        return (board, rand) -> ObstaclePlacer.placeObstacles(board, rand, minObstacles);
+    }
+
+    /** Blocks each cell other than the cat's independently with probability {@code density}. */
+    static ObstaclePolicy scatter(double density) {
+        if (density < 0 || density >= 1) throw new IllegalArgumentException("Invalid density " + density);
+        return (board, rand) -> {
+            for (int cell = 0; cell < board.size(); cell++) {
+                if (!board.isCat(cell) && rand.nextDouble() < density) board.setBlocked(cell, true);
+            }
+        };
+    }
+
+    /** {@code base}, then terrain patches over {@code coverage} of the board. */
+    static ObstaclePolicy withTerrain(ObstaclePolicy base, double coverage) {
+        if (coverage < 0 || coverage > 1) throw new IllegalArgumentException("Invalid coverage " + coverage);
+        ThreadLocal<BoardGenerator> generators = ThreadLocal.withInitial(BoardGenerator::new);
+        return (board, rand) -> {
+            base.place(board, rand);
+            generators.get().generateTerrain(board, rand.nextLong(), coverage);
+        };
+    }
+}
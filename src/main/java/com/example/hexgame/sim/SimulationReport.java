@@ -0,0 +1,55 @@
+package com.example.hexgame.sim;
+
+import com.example.hexgame.utils.LatencyHistogram;
+
+/**
+ * Totals and per-phase timings of a {@link Simulator} run. Timings are in
+ * nanoseconds: {@code setup} covers the board reset and obstacle placement,
+ * {@code trapper} one trapper decision, {@code cat} one cat step including its
+ * path search, and {@code game} a whole game.
+ */
+public class SimulationReport {
+    public long games, trapped, escaped, moves;
+    public long elapsedNanos;
+    public int threads;
+    public final LatencyHistogram setup = new LatencyHistogram();
+    public final LatencyHistogram trapper = new LatencyHistogram();
+    public final LatencyHistogram cat = new LatencyHistogram();
+    public final LatencyHistogram game = new LatencyHistogram();
+
+    void merge(SimulationReport other) {
+        games += other.games;
+        trapped += other.trapped;
+        escaped += other.escaped;
+        moves += other.moves;
+        setup.merge(other.setup);
+        trapper.merge(other.trapper);
+        cat.merge(other.cat);
+        game.merge(other.game);
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /** Fraction of games in which the cat was trapped. */
+    public double getTrapRate() {
+        return games == 0 ? 0 : (double) trapped / games;
+    }
+
+    public double getAverageMoves() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d threads=%d elapsed=%.2fs games/s=%.1f%n", games, threads,
+                elapsedNanos / 1e9, getGamesPerSecond())
+                + String.format("trapped=%d (%.1f%%) escaped=%d avgMoves=%.2f%n", trapped,
+                100 * getTrapRate(), escaped, getAverageMoves())
+                + "setup   (us) " + setup.format(1e3) + System.lineSeparator()
+                + "trapper (us) " + trapper.format(1e3) + System.lineSeparator()
+                + "cat     (us) " + cat.format(1e3) + System.lineSeparator()
+                + "game    (us) " + game.format(1e3);
+    }
+}
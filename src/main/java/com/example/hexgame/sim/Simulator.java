@@ -0,0 +1,204 @@
+package com.example.hexgame.sim;
+
+import com.example.hexgame.algorithms.BFSStrategy;
+import com.example.hexgame.algorithms.BatchPathfinder;
+import com.example.hexgame.algorithms.BoardPathResult;
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.io.GameArchiveWriter;
+import com.example.hexgame.io.GameRecord;
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.BoardGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays seeded games end to end without a UI, spread over a work-stealing
+ * pool. Game {@code k} of a run always starts from the same board for the
+ * same seed; with a time-budgeted trapper the moves themselves can still vary.
+ *
+ * <p>Every worker thread gets its own board, cat strategy and trapper policy,
+ * created from the config's suppliers on first use. When the config names an
+ * archive, every game is appended to it as it finishes, in completion order.
+ *
+ * <p>{@link #openings} solves the cat's first path on every starting board of
+ * a run in one {@link BatchPathfinder} batch, without playing the games.
+ */
+public class Simulator implements AutoCloseable {
+    private final ForkJoinPool pool;
+
+    public Simulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public Simulator(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public SimulationReport run(Config config) {
+        if (config.games < 0) throw new IllegalArgumentException("Invalid game count " + config.games);
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(config));
+        int leafSize = Math.max(1, config.games / (pool.getParallelism() * 16));
+
+        long begin = System.nanoTime();
+        SimulationReport report = pool.invoke(new Batch(config, workers, 0, config.games, leafSize));
+        report.elapsedNanos = System.nanoTime() - begin;
+        report.threads = pool.getParallelism();
+        return report;
+    }
+
+    /**
+     * The cat's search from its starting cell on the board of every game of a
+     * run, in game order. Each job gets its own strategy from the config.
+     */
+    public List<BoardPathResult> openings(Config config) {
+        if (config.games < 0) throw new IllegalArgumentException("Invalid game count " + config.games);
+        List<BatchPathfinder.Job> jobs = new ArrayList<>(config.games);
+        for (int game = 0; game < config.games; game++) {
+            HexBoard board = new HexBoard(config.rows, config.cols);
+            board.setCat(board.index(config.rows / 2, config.cols / 2));
+            config.obstacles.place(board, new Random(gameSeed(config, game)));
+            jobs.add(new BatchPathfinder.Job(board, board.getCat(), config.catStrategy.get()));
+        }
+        try (BatchPathfinder batch = new BatchPathfinder(pool)) {
+            return batch.findAll(jobs);
+        }
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    private static long gameSeed(Config config, int game) {
+        return config.seed ^ (game * 0x9E3779B97F4A7C15L);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    public static class Config {
+        public int rows = 11, cols = 11;
+        public int games = 1000;
+        public long seed = 1;
+        public ObstaclePolicy obstacles = ObstaclePolicy.generated(BoardGenerator.DEFAULT_DENSITY);
+        public Supplier<PathfindingStrategy> catStrategy = BFSStrategy::new;
+        public Supplier<TrapperPolicy> trapper = TrapperPolicy::greedy;
+        /** Receives every game when set; the caller closes it. */
+        public GameArchiveWriter archive;
+    }
+
+    private static class Worker {
+        final GameState state;
+        final TrapperPolicy trapper;
+        final String strategyName;
+        int[] blocks = new int[64], cats = new int[64];
+
+        Worker(Config config) {
+            state = new GameState(new HexBoard(config.rows, config.cols));
+            PathfindingStrategy strategy = config.catStrategy.get();
+            strategyName = strategy.getClass().getSimpleName();
+            state.setStrategy(strategy);
+            trapper = config.trapper.get();
+        }
+
+        void play(Config config, int game, SimulationReport report) {
+            long seed = gameSeed(config, game);
+            Random rand = new Random(seed);
+            long begin = System.nanoTime();
+            state.reset();
+            config.obstacles.place(state.getBoard(), rand);
+            long now = System.nanoTime();
+            report.setup.record(now - begin);
+            long[] initialBlocked = config.archive == null ? null : GameRecord.blockedWords(state.getBoard());
+            int startCat = state.getCat();
+            int turns = 0;
+
+            while (!state.isOver()) {
+                long t0 = now;
+                int cell = trapper.chooseBlock(state, rand);
+                if (!state.block(cell)) {
+                    cell = firstOpenCell();
+                    if (!state.block(cell)) cell = -1;
+                }
+                long t1 = System.nanoTime();
+                state.moveCat();
+                now = System.nanoTime();
+                report.trapper.record(t1 - t0);
+                report.cat.record(now - t1);
+
+                if (initialBlocked != null && cell >= 0) {
+                    if (turns == blocks.length) {
+                        blocks = Arrays.copyOf(blocks, turns << 1);
+                        cats = Arrays.copyOf(cats, turns << 1);
+                    }
+                    blocks[turns] = cell;
+                    cats[turns++] = state.getCat();
+                }
+            }
+
+            report.game.record(now - begin);
+            report.games++;
+            report.moves += state.getMoves();
+            if (state.getStatus() == GameState.Status.TRAPPED) report.trapped++;
+            else report.escaped++;
+
+            if (initialBlocked != null) {
+                GameRecord record = new GameRecord(config.rows, config.cols, seed, strategyName,
+                        state.getStatus(), startCat, initialBlocked,
+                        Arrays.copyOf(blocks, turns), Arrays.copyOf(cats, turns));
+                try {
+                    config.archive.append(record);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private int firstOpenCell() {
+            for (int cell = 0; cell < state.getBoard().size(); cell++) {
+                if (state.canBlock(cell)) return cell;
+            }
+            return -1;
+        }
+    }
+
+    private static class Batch extends RecursiveTask<SimulationReport> {
+        private final Config config;
+        private final ThreadLocal<Worker> workers;
+        private final int from, to, leafSize;
+
+        Batch(Config config, ThreadLocal<Worker> workers, int from, int to, int leafSize) {
+            this.config = config;
+            this.workers = workers;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from <= leafSize) {
+                SimulationReport report = new SimulationReport();
+                Worker worker = workers.get();
+                for (int game = from; game < to; game++) worker.play(config, game, report);
+                return report;
+            }
+            int mid = (from + to) >>> 1;
+            Batch right = new Batch(config, workers, mid, to, leafSize);
+            right.fork();
+            SimulationReport report = new Batch(config, workers, from, mid, leafSize).compute();
+            report.merge(right.join());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.hexgame.sim;
+
+import com.example.hexgame.ai.TrapperEngine;
+import com.example.hexgame.algorithms.AStarStrategy;
+import com.example.hexgame.algorithms.BFSStrategy;
+import com.example.hexgame.algorithms.BidirectionalBFSStrategy;
+import com.example.hexgame.algorithms.BoardPathResult;
+import com.example.hexgame.algorithms.DFSStrategy;
+import com.example.hexgame.algorithms.DijkstraStrategy;
+import com.example.hexgame.algorithms.EscapeMapStrategy;
+import com.example.hexgame.algorithms.HierarchicalStrategy;
+import com.example.hexgame.algorithms.IncrementalPathfindingStrategy;
+import com.example.hexgame.algorithms.ParallelBFSStrategy;
+import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.algorithms.WeightedAStarStrategy;
+import com.example.hexgame.io.GameArchiveWriter;
+import com.example.hexgame.utils.BoardGenerator;
+import com.example.hexgame.utils.ObstaclePlacer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Command line front end of {@link Simulator}.
+ */
+public class SimulatorCli {
+    static final String USAGE = String.join(System.lineSeparator(),
+            "usage: sim [options]",
+            "  --games N          games to play (1000)",
+            "  --rows N --cols N  board size (11x11)",
+            "  --seed N           base seed (1)",
+            "  --threads N        worker threads (all cores)",
+            "  --obstacles P      generated[:density] | clusters[:min] | scatter:density | none (generated:"
+                    + BoardGenerator.DEFAULT_DENSITY + ")",
+            "  --terrain F        cover a share F of the board with costly terrain; not archived (0)",
+            "  --cat S            bfs | dfs | astar | dstar | bidir | parallel | dijkstra | wastar | hpa | escape (bfs)",
+            "  --trapper T        random | greedy | threat | alphabeta[:ms] | mcts[:ms] (greedy)",
+            "  --archive FILE     also save every game to a replay archive",
+            "  --openings         only solve the cat's first path on every starting board");
+
+    public static void main(String[] args) throws IOException {
+        Simulator.Config config = new Simulator.Config();
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path archive = null;
+        double terrain = 0;
+        boolean openings = false;
+        try {
+            for (int k = 0; k < args.length; k++) {
+                String option = args[k];
+                if (option.equals("--help") || option.equals("-h")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (option.equals("--openings")) {
+                    openings = true;
+                    continue;
+                }
+                if (k + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++k];
+                switch (option) {
+                    case "--games": config.games = Integer.parseInt(value); break;
+                    case "--rows": config.rows = Integer.parseInt(value); break;
+                    case "--cols": config.cols = Integer.parseInt(value); break;
+                    case "--seed": config.seed = Long.parseLong(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    case "--obstacles": config.obstacles = parseObstacles(value); break;
+                    case "--terrain": terrain = Double.parseDouble(value); break;
+                    case "--cat": config.catStrategy = parseCat(value); break;
+                    case "--trapper": config.trapper = parseTrapper(value); break;
+                    case "--archive": archive = Paths.get(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (terrain > 0) config.obstacles = ObstaclePolicy.withTerrain(config.obstacles, terrain);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        if (archive != null) config.archive = new GameArchiveWriter(archive);
+        try (Simulator simulator = new Simulator(threads)) {
+            if (openings) {
+                long begin = System.nanoTime();
+                List<BoardPathResult> results = simulator.openings(config);
+                System.out.println(describeOpenings(results, System.nanoTime() - begin));
+            } else {
+                System.out.println(simulator.run(config));
+            }
+        } finally {
+            if (config.archive != null) config.archive.close();
+        }
+    }
+
+    static String describeOpenings(List<BoardPathResult> results, long nanos) {
+        long trapped = 0, steps = 0, explored = 0;
+        for (BoardPathResult result : results) {
+            if (result.path.length == 0) trapped++;
+            else steps += result.path.length - 1;
+            explored += result.getNodesExplored();
+        }
+        long open = results.size() - trapped;
+        return String.format("boards=%d elapsed=%.2fs trapped=%d avgDistance=%.2f avgExplored=%.1f",
+                results.size(), nanos / 1e9, trapped, open == 0 ? 0 : (double) steps / open,
+                results.isEmpty() ? 0 : (double) explored / results.size());
+    }
+
+    static ObstaclePolicy parseObstacles(String value) {
+        String[] parts = value.split(":", 2);
+        switch (parts[0]) {
+            case "none": return ObstaclePolicy.none();
+            case "generated":
+                return ObstaclePolicy.generated(parts.length > 1 ? Double.parseDouble(parts[1]) : BoardGenerator.DEFAULT_DENSITY);
+            case "clusters":
+                return ObstaclePolicy.clusters(parts.length > 1 ? Integer.parseInt(parts[1]) : ObstaclePlacer.MIN_OBSTACLES);
+            case "scatter":
+                if (parts.length < 2) throw new IllegalArgumentException("scatter needs a density");
+                return ObstaclePolicy.scatter(Double.parseDouble(parts[1]));
+            default: throw new IllegalArgumentException("Unknown obstacle policy " + value);
+        }
+    }
+
+    public static Supplier<PathfindingStrategy> parseCat(String value) {
+        switch (value) {
+            case "bfs": return BFSStrategy::new;
+            case "dfs": return DFSStrategy::new;
+            case "astar": return AStarStrategy::new;
+            case "dstar": return IncrementalPathfindingStrategy::new;
+            case "bidir": return BidirectionalBFSStrategy::new;
+            case "parallel": return ParallelBFSStrategy::new;
+            case "dijkstra": return DijkstraStrategy::new;
+            case "wastar": return WeightedAStarStrategy::new;
+            case "hpa": return HierarchicalStrategy::new;
+            case "escape": return EscapeMapStrategy::new;
+            default: throw new IllegalArgumentException("Unknown cat strategy " + value);
+        }
+    }
+
+    static Supplier<TrapperPolicy> parseTrapper(String value) {
+        String[] parts = value.split(":", 2);
+        long millis = parts.length > 1 ? Long.parseLong(parts[1]) : 10;
+        switch (parts[0]) {
+            case "random": return TrapperPolicy::random;
+            case "greedy": return TrapperPolicy::greedy;
+            case "threat": return TrapperPolicy::threat;
+            case "alphabeta": return () -> TrapperPolicy.engine(TrapperEngine.Mode.ALPHA_BETA, millis);
+            case "mcts": return () -> TrapperPolicy.engine(TrapperEngine.Mode.MCTS, millis);
+            default: throw new IllegalArgumentException("Unknown trapper policy " + value);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.hexgame.sim;
+
+import com.example.hexgame.ai.ThreatAnalysis;
+import com.example.hexgame.ai.TrapperEngine;
+import com.example.hexgame.ai.TrapperMove;
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+
+import java.util.Random;
+
+/**
+ * Chooses the trapper's block in a simulated game. Policies may keep state
+ * between calls, so the simulator gives each worker thread its own instance.
+ */
+public interface TrapperPolicy {
+
+    /** Returns the cell to block; an illegal answer makes the simulator block the first open cell. */
+    int chooseBlock(GameState state, Random rand);
+
+    /** Blocks a uniformly random open cell. */
+    static TrapperPolicy random() {
+        return (state, rand) -> randomOpenCell(state, rand);
+    }
+
+    /** Blocks the cat's next step on its current path. */
+    static TrapperPolicy greedy() {
+        return (state, rand) -> {
+            int step = state.getCatStep();
+            return step >= 0 && step != state.getCat() ? step : randomOpenCell(state, rand);
+        };
+    }
+
+    /** Blocks the cell that lengthens the cat's escape most, by a {@link ThreatAnalysis} on the calling thread. */
+    static TrapperPolicy threat() {
+        return new TrapperPolicy() {
+            private final ThreatAnalysis analysis = new ThreatAnalysis(1);
+
+            @Override
+            public int chooseBlock(GameState state, Random rand) {
+                int cell = analysis.analyse(state.getBoard(), state.getCat()).best();
+                return state.canBlock(cell) ? cell : randomOpenCell(state, rand);
+            }
+        };
+    }
+
+    /** Asks a {@link TrapperEngine} with a per-move time budget. */
+    static TrapperPolicy engine(TrapperEngine.Mode mode, long millis) {
+        return new TrapperPolicy() {
+            private TrapperEngine engine;
+
+            @Override
+            public int chooseBlock(GameState state, Random rand) {
+                if (engine == null) engine = new TrapperEngine(mode, 16, rand.nextLong());
+                TrapperMove move = engine.chooseMove(state.getBoard(), millis);
+                return move.cell >= 0 ? move.cell : randomOpenCell(state, rand);
+            }
+        };
+    }
+
+    static int randomOpenCell(GameState state, Random rand) {
+        HexBoard board = state.getBoard();
+        int chosen = -1, seen = 0;
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (state.canBlock(cell) && rand.nextInt(++seen) == 0) chosen = cell;
+        }
+        return chosen;
+    }
+}
@@ -1,59 +1,110 @@
 package com.example.hexgame.ui;
 
+import com.example.hexgame.ai.ThreatAnalysis;
+import com.example.hexgame.ai.ThreatMap;
 import com.example.hexgame.algorithms.AStarStrategy;
 import com.example.hexgame.algorithms.BFSStrategy;
+import com.example.hexgame.algorithms.BidirectionalBFSStrategy;
 import com.example.hexgame.algorithms.DFSStrategy;
-import com.example.hexgame.algorithms.PathfindingResult;
-import com.example.hexgame.model.Tile;
+import com.example.hexgame.algorithms.DijkstraStrategy;
+import com.example.hexgame.algorithms.EscapeMapStrategy;
+import com.example.hexgame.algorithms.HierarchicalStrategy;
+import com.example.hexgame.algorithms.IncrementalPathfindingStrategy;
+import com.example.hexgame.algorithms.ParallelBFSStrategy;
+import com.example.hexgame.algorithms.SearchSession;
+import com.example.hexgame.algorithms.WeightedAStarStrategy;
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.BoardGenerator;
 import com.example.hexgame.utils.PathState;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
 import javax.swing.Timer;
-import java.util.List;
 
 public class Game extends JFrame {
-    final int ROWNUM = 11, COLNUM = 11;
-    final int tileSize = 60;
-    Tile[][] grid = new Tile[ROWNUM][COLNUM];
-    Tile cat;
+    static final int DEFAULT_SIZE = 11;
+    /** Largest board area shown without scrolling, in pixels. */
+    static final int VIEWPORT_WIDTH = 900, VIEWPORT_HEIGHT = 700;
+    final int ROWNUM, COLNUM;
+    final HexBoard board;
+    final HexBoardView view;
+    /** Animation frame period, and the share of it the search may use. */
+    static final int FRAME_MILLIS = 16;
+    static final long FRAME_BUDGET_NANOS = 8_000_000L;
+    /** Expansions between two checks of the frame budget. */
+    static final int STEP_BATCH = 256;
+    /** Share of the board covered by terrain when it is switched on. */
+    static final double TERRAIN_COVERAGE = 0.35;
     boolean gameOver = false;
-    int moves = 0;
+    private final BoardGenerator terrain = new BoardGenerator();
+    private final ThreatAnalysis threats = new ThreatAnalysis(ForkJoinPool.commonPool());
     private Timer visualizationTimer;
+    private SearchSession session;
+    private int[] sessionPath;
+    private int pathShown;
+    private double credit;
+    private long lastFrame;
+    private final IntConsumer markExplored;
     private PathState pathState;
+    private GameState state;
 
     // UI components
     private JComboBox<String> algoSelector;
     private JToggleButton visualizeToggle;
+    private JToggleButton terrainToggle;
+    private JToggleButton threatToggle;
     private JButton visualizeBtn;
+    private JSlider speedSlider;
     private JLabel statusLabel;
     private JButton resetBtn;
 
     public Game() {
+        this(DEFAULT_SIZE, DEFAULT_SIZE);
+    }
+
+    public Game(int rows, int cols) {
+        ROWNUM = rows;
+        COLNUM = cols;
+        board = new HexBoard(rows, cols);
+        view = new HexBoardView(board, radiusFor(rows, cols));
+        markExplored = cell -> view.mark(cell, HexBoardView.EXPLORED);
         setTitle("Hex Cat Escape Challenge");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
 
         // Control panel
         JPanel controlPanel = new JPanel();
-        algoSelector = new JComboBox<>(new String[]{"BFS", "DFS", "A*"});
+        algoSelector = new JComboBox<>(new String[]{"BFS", "DFS", "A*", "D* Lite", "Dijkstra", "Weighted A*", "HPA*", "Parallel BFS", "Bidirectional BFS", "Escape map"});
         visualizeToggle = new JToggleButton("Auto Visualize");
+        terrainToggle = new JToggleButton("Terrain");
+        terrainToggle.setToolTipText("Rough ground, forest and swamp cost 2, 3 and 5 steps for the cost-aware strategies");
+        threatToggle = new JToggleButton("Threats");
+        threatToggle.setToolTipText("Shade cells by their share of the cat's shortest escapes; full red cells lie on all of them");
         visualizeBtn = new JButton("Visualize Now");
+        speedSlider = new JSlider(0, 100, 20);
+        speedSlider.setToolTipText("Cells per second, 10 to 1,000,000");
         statusLabel = new JLabel("Moves: 0");
         resetBtn = new JButton("Reset Game");
-        pathState = new PathState(grid, ROWNUM, COLNUM);
+        pathState = new PathState(board);
+        state = new GameState(board, pathState);
 
         controlPanel.add(algoSelector);
         controlPanel.add(visualizeToggle);
+        controlPanel.add(terrainToggle);
+        controlPanel.add(threatToggle);
         controlPanel.add(visualizeBtn);
+        controlPanel.add(new JLabel("Speed"));
+        controlPanel.add(speedSlider);
         controlPanel.add(resetBtn);
         controlPanel.add(statusLabel);
         add(controlPanel, BorderLayout.NORTH);
 
         // Game grid
-        JPanel gridPanel = createMap();
-        add(gridPanel, BorderLayout.CENTER);
+        add(createMap(), BorderLayout.CENTER);
 
 
         // Strategy selection handler
@@ -62,9 +113,16 @@ public class Game extends JFrame {
             switch (choice) {
                 case "DFS": pathState.setStrategy(new DFSStrategy()); break;
                 case "A*": pathState.setStrategy(new AStarStrategy()); break;
+                case "D* Lite": pathState.setStrategy(new IncrementalPathfindingStrategy()); break;
+                case "Dijkstra": pathState.setStrategy(new DijkstraStrategy()); break;
+                case "Weighted A*": pathState.setStrategy(new WeightedAStarStrategy()); break;
+                case "HPA*": pathState.setStrategy(new HierarchicalStrategy()); break;
+                case "Parallel BFS": pathState.setStrategy(new ParallelBFSStrategy()); break;
+                case "Bidirectional BFS": pathState.setStrategy(new BidirectionalBFSStrategy()); break;
+                case "Escape map": pathState.setStrategy(new EscapeMapStrategy()); break;
                 default: pathState.setStrategy(new BFSStrategy());
             }
-            pathState.updatePath(cat);
+            pathState.updatePath(state.getCat());
         });
 
         // Event listeners
@@ -74,8 +132,13 @@ public class Game extends JFrame {
             }
         });
 
-        visualizeBtn.addActionListener(e -> visualizePathfinding());
+        visualizeBtn.addActionListener(e -> {
+            if (session != null) stopVisualization();
+            else visualizePathfinding();
+        });
         resetBtn.addActionListener(e -> resetGame());
+        terrainToggle.addActionListener(e -> toggleTerrain());
+        threatToggle.addActionListener(e -> showThreats());
 
         pack();
         setResizable(false);
@@ -83,112 +146,43 @@ public class Game extends JFrame {
         setVisible(true);
     }
 
-    private JPanel createMap() {
-        JPanel gridPanel = new JPanel(new GridLayout(ROWNUM, 1, 0, 0));
-        for (int i = 0; i < ROWNUM; i++) {
-            JPanel rowPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 0));
-            if (i % 2 != 0) rowPanel.add(Box.createHorizontalStrut(tileSize/2));
-            for (int j = 0; j < COLNUM; j++) {
-                Tile tile = new Tile(i, j);
-                grid[i][j] = tile;
-                tile.setPreferredSize(new Dimension(tileSize, tileSize));
-                tile.addActionListener(ev -> handleTileClick(tile));
-                rowPanel.add(tile);
-            }
-            gridPanel.add(rowPanel);
-        }
-        cat = grid[ROWNUM/2][COLNUM/2];
-        cat.setCat(true);
-        placeObstacles();
-        return gridPanel;
+    private JScrollPane createMap() {
+        view.setCellListener(this::handleCellClick);
+        state.reset(new Random());
+
+        JScrollPane scroll = new JScrollPane(view);
+        scroll.setBorder(null);
+        scroll.getVerticalScrollBar().setUnitIncrement(16);
+        scroll.getHorizontalScrollBar().setUnitIncrement(16);
+        Dimension size = view.getPreferredSize();
+        scroll.setPreferredSize(new Dimension(Math.min(size.width, VIEWPORT_WIDTH) + 2, Math.min(size.height, VIEWPORT_HEIGHT) + 2));
+        return scroll;
     }
 
-    private void placeObstacles() {
-        Random rand = new Random();
-        int clusterCount = 3;
-        int obstaclesPerCluster = 5;
-        int padding = 2;
-
-        // Generate cluster centers
-        List<Point> centers = new ArrayList<>();
-        for (int i = 0; i < clusterCount; i++) {
-            int r, c;
-            do {
-                r = padding + rand.nextInt(ROWNUM - 2 * padding);
-                c = padding + rand.nextInt(COLNUM - 2 * padding);
-            } while (isNearCat(r, c) || isNearExistingCluster(r, c, centers));
-            centers.add(new Point(r, c));
-        }
-
-        // Place obstacles around centers
-        for (Point center : centers) {
-            placeCluster(center.x, center.y, obstaclesPerCluster, rand);
-        }
-
-        // Place additional obstacles if needed
-        int placed = countObstacles();
-        while (placed < 15) {
-            int r = rand.nextInt(ROWNUM), c = rand.nextInt(COLNUM);
-            if (!grid[r][c].isBlocked && !isNearCat(r, c)) {
-                grid[r][c].setBlocked(true);
-                placed++;
-            }
-        }
+    /** Hex radius that fits the board in the viewport, between 3 and 30 pixels. */
+    static int radiusFor(int rows, int cols) {
+        double byWidth = VIEWPORT_WIDTH / (Math.sqrt(3) * (cols + 0.5));
+        double byHeight = VIEWPORT_HEIGHT / (1.5 * rows + 0.5);
+        return (int) Math.max(3, Math.min(30, Math.min(byWidth, byHeight)));
     }
 
-    private void placeCluster(int centerR, int centerC, int count, Random rand) {
-        int placed = 0;
-        int attempts = 0;
-
-        while (placed < count && attempts < 50) {
-            int r = centerR + rand.nextInt(5) - 2;
-            int c = centerC + rand.nextInt(5) - 2;
-
-            if (r >= 0 && r < ROWNUM && c >= 0 && c < COLNUM &&
-                    !grid[r][c].isBlocked && !isNearCat(r, c)) {
-                grid[r][c].setBlocked(true);
-                placed++;
-            }
-            attempts++;
-        }
-    }
+    private void handleCellClick(int cell) {
+        if (gameOver) return;
 
-    private boolean isNearExistingCluster(int r, int c, List<Point> centers) {
-        for (Point center : centers) {
-            if (Math.abs(r - center.x) < 4 && Math.abs(c - center.y) < 4) {
-                return true;
-            }
-        }
-        return false;
-    }
+        view.clearMarks();
 
-    private boolean isNearCat(int i, int j) {
-        int catDist = Math.max(Math.abs(i - cat.i), Math.abs(j - cat.j));
-        return catDist <= 2;
-    }
+        int before = state.getCat();
+        if (state.play(cell)) {
+            view.cellChanged(cell);
+            view.cellChanged(before);
+            view.cellChanged(state.getCat());
+            showThreats();
 
-    private int countObstacles() {
-        int count = 0;
-        for (Tile[] row : grid) {
-            for (Tile tile : row) {
-                if (tile.isBlocked) count++;
+            if (state.isOver()) {
+                gameOver = true;
+                showGameOverPopup(state.getStatus() == GameState.Status.TRAPPED);
+                return;
             }
-        }
-        return count;
-    }
-
-    private void handleTileClick(Tile tile) {
-        if (gameOver) return;
-
-        resetGridColors();
-
-        if (!tile.isBlocked && tile != cat) {
-            tile.setBlocked(true);
-            tile.stateChanged = true;
-            moves++;
-            pathState.updatePath(cat);
-            moveCatOneStep();
-            statusLabel.setText("Moves: " + moves);
 
             if (visualizeToggle.isSelected()) {
                 visualizePathfinding();
@@ -196,36 +190,29 @@ public class Game extends JFrame {
         }
     }
 
-    private void moveCatOneStep() {
-        List<Tile> path = pathState.getPath(cat);
-
-        if (path.isEmpty()) {
-            gameOver = true;
-            showGameOverPopup(true);
-            return;
-        }
-
-        // Move to next position in path
-        Tile nextStep = path.get(1);
-
-        // Update cat position
-        cat.setCat(false);
-        cat = nextStep;
-        cat.setCat(true);
-
-        if (isAtBorder(cat)) {
-            gameOver = true;
-            showGameOverPopup(false);
+    /** Shows the move count and, when switched on, the threat heatmap and the most damaging block. */
+    private void showThreats() {
+        String status = "Moves: " + state.getMoves();
+        if (threatToggle.isSelected()) {
+            ThreatMap map = threats.analyse(board, state.getCat());
+            view.setHeatmap(map.pathShare);
+            int best = map.best();
+            int gain = best < 0 ? 0 : map.gain(best);
+            if (gain > 0) {
+                status += String.format(" | Best block: (%d, %d) %s", board.row(best), board.col(best),
+                        gain == Integer.MAX_VALUE ? "traps the cat" : "+" + gain + " steps");
+            }
+        } else {
+            view.setHeatmap(null);
         }
+        statusLabel.setText(status);
     }
 
     private void showGameOverPopup(boolean isWin) {
-        if (visualizationTimer != null && visualizationTimer.isRunning()) {
-            visualizationTimer.stop();
-        }
+        stopVisualization();
 
         String message = isWin ?
-                "You win! Cat trapped in " + moves + " moves" :
+                "You win! Cat trapped in " + state.getMoves() + " moves" :
                 "Cat escaped! You lose";
 
         int option = JOptionPane.showOptionDialog(
@@ -246,88 +233,122 @@ public class Game extends JFrame {
         }
     }
 
+    /**
+     * Streams the active strategy's search onto the board: every frame takes
+     * as many expansions as the speed allows, within a fixed time budget, and
+     * then the path is drawn the same way.
+     */
     private void visualizePathfinding() {
-        if (visualizationTimer != null && visualizationTimer.isRunning()) {
-            visualizationTimer.stop();
-        }
+        stopVisualization();
 
-        resetGridColors();
+        view.clearMarks();
         setControlsEnabled(false);
-
-        PathfindingResult result = pathState.activeStrategy.findPath(grid, cat, ROWNUM, COLNUM);
-
-        Iterator<Tile> visitIt = result.visitedOrder.iterator();
-        Iterator<Tile> pathIt = result.path.iterator();
-
-        visualizationTimer = new Timer(100, e -> {
-            if (visitIt.hasNext()) {
-                visitIt.next().highlightExplored();
-            } else if (pathIt.hasNext()) {
-                pathIt.next().highlightPath();
-            } else {
-                visualizationTimer.stop();
-                setControlsEnabled(true);
-                if (!gameOver) {
-                    statusLabel.setText("Moves: " + moves);
-                }
-            }
-            statusLabel.setText(String.format("Nodes: %d | Path: %d | Moves: %d",
-                    result.getNodesExplored(), result.getPathLength(), moves));
-        });
+        visualizeBtn.setText("Stop");
+        visualizeBtn.setEnabled(true);
+
+        session = pathState.activeStrategy.openSession(board, state.getCat());
+        sessionPath = null;
+        pathShown = 0;
+        credit = 0;
+        lastFrame = System.nanoTime();
+        visualizationTimer = new Timer(FRAME_MILLIS, e -> animationFrame());
         visualizationTimer.start();
     }
 
-    private void resetGridColors() {
-        for (int i = 0; i < ROWNUM; i++) {
-            for (int j = 0; j < COLNUM; j++) {
-                grid[i][j].resetColor();
+    private void animationFrame() {
+        long now = System.nanoTime();
+        double perSecond = cellsPerSecond();
+        // A frame that ran over does not make the next one catch up in a burst
+        credit = Math.min(credit + perSecond * (now - lastFrame) / 1e9, 1 + perSecond * FRAME_MILLIS * 4 / 1000.0);
+        lastFrame = now;
+
+        long deadline = now + FRAME_BUDGET_NANOS;
+        while (credit >= 1 && System.nanoTime() < deadline) {
+            int batch = (int) Math.min(credit, STEP_BATCH);
+            if (!session.isDone()) {
+                credit -= session.step(batch, markExplored);
+                continue;
             }
+            if (sessionPath == null) sessionPath = session.getPath();
+            if (pathShown == sessionPath.length) {
+                showSearchStatus();
+                finishVisualization();
+                return;
+            }
+            int stop = Math.min(sessionPath.length, pathShown + batch);
+            for (; pathShown < stop; pathShown++) view.mark(sessionPath[pathShown], HexBoardView.PATH);
+            credit -= batch;
         }
+        showSearchStatus();
+    }
+
+    /** Slider position mapped exponentially onto 10 to 1,000,000 cells per second. */
+    private double cellsPerSecond() {
+        return 10 * Math.pow(10, speedSlider.getValue() / 20.0);
+    }
+
+    private void showSearchStatus() {
+        statusLabel.setText(String.format("Nodes: %d | Path: %d | Moves: %d",
+                session.getExploredCount(), sessionPath == null ? 0 : sessionPath.length, state.getMoves()));
+    }
+
+    /** Cancels a running visualization, leaving what was drawn so far. */
+    private void stopVisualization() {
+        if (session == null) return;
+        session.cancel();
+        finishVisualization();
+    }
+
+    private void finishVisualization() {
+        visualizationTimer.stop();
+        session = null;
+        sessionPath = null;
+        visualizeBtn.setText("Visualize Now");
+        setControlsEnabled(true);
     }
 
     private void setControlsEnabled(boolean enabled) {
-        for (int i = 0; i < ROWNUM; i++) {
-            for (int j = 0; j < COLNUM; j++) {
-                grid[i][j].setEnabled(enabled && !gameOver);
-            }
-        }
+        view.setEnabled(enabled && !gameOver);
         algoSelector.setEnabled(enabled);
         visualizeToggle.setEnabled(enabled);
+        terrainToggle.setEnabled(enabled);
+        threatToggle.setEnabled(enabled);
         visualizeBtn.setEnabled(enabled);
         resetBtn.setEnabled(enabled);
     }
 
     private void resetGame() {
-        if (visualizationTimer != null && visualizationTimer.isRunning()) {
-            visualizationTimer.stop();
-        }
-        for (int i = 0; i < ROWNUM; i++) {
-            for (int j = 0; j < COLNUM; j++) {
-                grid[i][j].setBlocked(false);
-                grid[i][j].resetColor();
-            }
-        }
-
-        cat.setCat(false);
-        cat = grid[ROWNUM/2][COLNUM/2];
-        cat.setCat(true);
-
-        placeObstacles();
-        pathState.updatePath(cat);
+        stopVisualization();
+        Random rand = new Random();
+        state.reset(rand);
+        if (terrainToggle.isSelected()) terrain.generateTerrain(board, rand.nextLong(), TERRAIN_COVERAGE);
+        view.boardChanged();
+        pathState.updatePath(state.getCat());
         gameOver = false;
-        moves = 0;
-        statusLabel.setText("Moves: 0");
+        showThreats();
         setControlsEnabled(true);
     }
 
-    private boolean isAtBorder(Tile t) {
-        return t.i == 0 || t.i == ROWNUM - 1 || t.j == 0 || t.j == COLNUM - 1;
+    /** Lays terrain over the board in play, or levels it, without starting a new game. */
+    private void toggleTerrain() {
+        stopVisualization();
+        if (terrainToggle.isSelected()) {
+            terrain.generateTerrain(board, new Random().nextLong(), TERRAIN_COVERAGE);
+        } else {
+            board.clearTerrain();
+        }
+        view.boardChanged();
+        pathState.updatePath(state.getCat());
+        showThreats();
     }
 
+    /** Optional arguments: {@code ROWS [COLS]}, 11 by default. */
     public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : rows;
         SwingUtilities.invokeLater(() -> {
-            Game game = new Game();
-            game.pathState.updatePath(game.cat);
+            Game game = new Game(rows, cols);
+            game.pathState.updatePath(game.state.getCat());
         });
     }
 }
\ No newline at end of file
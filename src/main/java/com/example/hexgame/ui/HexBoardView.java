@@ -0,0 +1,250 @@
+package com.example.hexgame.ui;
+
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.model.Terrain;
+
+import javax.swing.JComponent;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Paints a {@link HexBoard} as pointy-top hexagons on one component, odd rows
+ * shifted right by half a cell. All cells share one polygon and a fixed set of
+ * colors; a paint only visits the cells inside the clip, and a changed cell
+ * repaints just its own bounds. Clicks are mapped to cells arithmetically, so
+ * the cost of a board does not grow with the number of cells on it.
+ *
+ * <p>The geometry is integral: a cell is {@code 2 * halfWidth} wide and rows
+ * are {@code radius + radius / 2} apart, so neighbors tile without gaps and
+ * hit testing matches the painted shapes. Below {@link #OUTLINE_RADIUS} only
+ * the cells that differ from a plain open cell are drawn one by one. Terrain
+ * shows as the fill of cells without a highlight, and a heatmap, when set,
+ * tints open cells over it.
+ */
+public class HexBoardView extends JComponent {
+    public static final byte PLAIN = 0, EXPLORED = 1, PATH = 2;
+
+    private static final Color BACKGROUND = new Color(0xF4F4F4);
+    private static final Color OUTLINE = new Color(0xA0A0A0);
+    private static final Color BLOCKED = new Color(0x7A2E2E);
+    private static final Color CAT = new Color(0xE07B00);
+    private static final Color[] FILLS = {
+            new Color(0xE6E6E6),
+            new Color(173, 216, 230), // Light blue
+            new Color(255, 255, 153)  // Light yellow
+    };
+    /** Plain fill of each terrain type, by ordinal; open ground is the plain cell color. */
+    private static final Color[] TERRAIN_FILLS = {
+            FILLS[PLAIN],
+            new Color(0xD9C9A3), // Rough: sand
+            new Color(0x9CC59A), // Forest: green
+            new Color(0x8FA7A0)  // Swamp: grey teal
+    };
+    /** Heatmap tints from the plain fill (level 0) to {@link #HOT}, one per level. */
+    private static final Color HOT = new Color(0xD7301F);
+    private static final Color[] HEAT_FILLS = new Color[16];
+    static {
+        Color cold = FILLS[PLAIN];
+        for (int level = 0; level < HEAT_FILLS.length; level++) {
+            float t = (float) level / (HEAT_FILLS.length - 1);
+            HEAT_FILLS[level] = new Color(
+                    Math.round(cold.getRed() + t * (HOT.getRed() - cold.getRed())),
+                    Math.round(cold.getGreen() + t * (HOT.getGreen() - cold.getGreen())),
+                    Math.round(cold.getBlue() + t * (HOT.getBlue() - cold.getBlue())));
+        }
+    }
+    /** Below this radius outlines would cover most of each cell, so they are left out. */
+    private static final int OUTLINE_RADIUS = 6;
+    private static final int PAD = 2;
+
+    private final HexBoard board;
+    private final int radius, halfWidth, edge, rowStep;
+    private final Polygon hex;
+    private final byte[] overlay;
+    private final byte[] heat;
+    private boolean heated;
+    private int[] marked = new int[64];
+    private int markedCount;
+    private IntConsumer cellListener;
+
+    public HexBoardView(HexBoard board, int radius) {
+        if (radius < 2) throw new IllegalArgumentException("Invalid radius " + radius);
+        this.board = board;
+        this.radius = radius;
+        this.halfWidth = (int) Math.round(Math.sqrt(3) * radius / 2);
+        this.edge = radius / 2;
+        this.rowStep = radius + edge;
+        this.hex = new Polygon(
+                new int[]{0, halfWidth, halfWidth, 0, -halfWidth, -halfWidth},
+                new int[]{-radius, -edge, edge, radius, edge, -edge}, 6);
+        this.overlay = new byte[board.size()];
+        this.heat = new byte[board.size()];
+        setOpaque(true);
+        setPreferredSize(new Dimension(
+                2 * PAD + 2 * halfWidth * board.getCols() + (board.getRows() > 1 ? halfWidth : 0) + 1,
+                2 * PAD + 2 * radius + (board.getRows() - 1) * rowStep + 1));
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!isEnabled() || cellListener == null) return;
+                int cell = cellAt(e.getX(), e.getY());
+                if (cell >= 0) cellListener.accept(cell);
+            }
+        });
+    }
+
+    public HexBoard getBoard() {
+        return board;
+    }
+
+    /** Called with the cell under every click while the view is enabled. */
+    public void setCellListener(IntConsumer listener) {
+        this.cellListener = listener;
+    }
+
+    /** Repaints {@code cell} after its state on the board changed. */
+    public void cellChanged(int cell) {
+        if (cell >= 0) repaint(getCellBounds(cell));
+    }
+
+    /** Drops all marks and repaints everything, for when the whole board changed. */
+    public void boardChanged() {
+        for (int k = 0; k < markedCount; k++) overlay[marked[k]] = PLAIN;
+        markedCount = 0;
+        repaint();
+    }
+
+    /** Highlights {@code cell} as {@link #EXPLORED} or {@link #PATH}. */
+    public void mark(int cell, byte kind) {
+        if (overlay[cell] == kind) return;
+        if (overlay[cell] == PLAIN) {
+            if (markedCount == marked.length) marked = Arrays.copyOf(marked, markedCount << 1);
+            marked[markedCount++] = cell;
+        }
+        overlay[cell] = kind;
+        cellChanged(cell);
+    }
+
+    /** Removes every highlight, repainting only the cells that had one. */
+    public void clearMarks() {
+        for (int k = 0; k < markedCount; k++) {
+            int cell = marked[k];
+            if (overlay[cell] == PLAIN) continue;
+            overlay[cell] = PLAIN;
+            cellChanged(cell);
+        }
+        markedCount = 0;
+    }
+
+    /**
+     * Tints every open cell by its value in {@code values}, 0 (none) to 1
+     * (full); null removes the heatmap. Highlights are drawn over it.
+     */
+    public void setHeatmap(double[] values) {
+        if (values == null && !heated) return;
+        heated = values != null;
+        int top = HEAT_FILLS.length - 1;
+        for (int cell = 0; cell < heat.length; cell++) {
+            heat[cell] = values == null ? 0 : (byte) Math.round(Math.max(0, Math.min(1, values[cell])) * top);
+        }
+        repaint();
+    }
+
+    /** Pixel bounds of {@code cell}, outline included. */
+    public Rectangle getCellBounds(int cell) {
+        int i = board.row(cell), j = board.col(cell);
+        return new Rectangle(centerX(i, j) - halfWidth, centerY(i) - radius, 2 * halfWidth + 1, 2 * radius + 1);
+    }
+
+    /**
+     * The cell under pixel {@code (x, y)}, or -1. Each band of {@code rowStep}
+     * pixels starts with a zigzag strip shared by two rows, decided by which
+     * side of the slanted edge the point falls, followed by a strip owned by
+     * one row.
+     */
+    public int cellAt(int x, int y) {
+        int u = y - PAD;
+        if (u < 0) return -1;
+        int i = u / rowStep;
+        int off = u - i * rowStep;
+        if (off < radius - edge) {
+            int j = Math.floorDiv(x - rowLeft(i), 2 * halfWidth);
+            int dx = Math.abs(x - rowLeft(i) - j * 2 * halfWidth - halfWidth);
+            // Above the edge running from the top vertex down to the side vertex
+            if ((long) off * halfWidth < (long) (radius - edge) * dx) i--;
+        }
+        if (i < 0 || i >= board.getRows()) return -1;
+        int j = Math.floorDiv(x - rowLeft(i), 2 * halfWidth);
+        if (j < 0 || j >= board.getCols()) return -1;
+        return board.index(i, j);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        g.setColor(BACKGROUND);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int rows = board.getRows(), cols = board.getCols();
+        int i0 = Math.max(0, (clip.y - PAD - 2 * radius) / rowStep);
+        int i1 = Math.min(rows - 1, (clip.y + clip.height - PAD) / rowStep);
+        int j0 = Math.max(0, (clip.x - PAD - 2 * halfWidth) / (2 * halfWidth));
+        int j1 = Math.min(cols - 1, (clip.x + clip.width - PAD) / (2 * halfWidth));
+        boolean outlines = radius >= OUTLINE_RADIUS;
+        int cat = board.getCat();
+        int catSize = Math.max(2, radius);
+
+        for (int i = i0; i <= i1; i++) {
+            int cy = centerY(i);
+            if (!outlines) {
+                // Without outlines plain open cells look alike, so one strip per row stands in for them
+                int left = centerX(i, j0) - halfWidth;
+                g.setColor(FILLS[PLAIN]);
+                g.fillRect(left, cy - radius, centerX(i, j1) + halfWidth - left, radius + edge);
+            }
+            for (int j = j0; j <= j1; j++) {
+                int cell = board.index(i, j);
+                boolean blocked = board.isBlocked(cell);
+                Terrain terrain = board.getTerrain(cell);
+                if (!outlines && !blocked && overlay[cell] == PLAIN && cell != cat && terrain == Terrain.OPEN && heat[cell] == 0) continue;
+                int cx = centerX(i, j);
+                g.translate(cx, cy);
+                g.setColor(blocked ? BLOCKED
+                        : overlay[cell] != PLAIN ? FILLS[overlay[cell]]
+                        : heat[cell] != 0 ? HEAT_FILLS[heat[cell]]
+                        : TERRAIN_FILLS[terrain.ordinal()]);
+                g.fillPolygon(hex);
+                if (outlines) {
+                    g.setColor(OUTLINE);
+                    g.drawPolygon(hex);
+                }
+                if (cell == cat) {
+                    g.setColor(CAT);
+                    g.fillOval(-catSize / 2, -catSize / 2, catSize, catSize);
+                }
+                g.translate(-cx, -cy);
+            }
+        }
+    }
+
+    private int rowLeft(int i) {
+        return PAD + ((i & 1) != 0 ? halfWidth : 0);
+    }
+
+    private int centerX(int i, int j) {
+        return rowLeft(i) + j * 2 * halfWidth + halfWidth;
+    }
+
+    private int centerY(int i) {
+        return PAD + radius + i * rowStep;
+    }
+}
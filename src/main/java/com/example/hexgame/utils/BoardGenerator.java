@@ -0,0 +1,336 @@
+package com.example.hexgame.utils;
+
+import com.example.hexgame.algorithms.BitFloodFill;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.model.Terrain;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded obstacle generator that runs in time linear in the board size.
+ * Cluster centers come from Poisson-disc sampling, so they are spread out
+ * without unbounded retry loops; each center grows a random blob, and a single
+ * selection-sampling pass tops the board up to the exact density target.
+ * Cells within {@link #CAT_CLEARANCE} of the cat stay open.
+ *
+ * <p>Every board is checked with a {@link BitFloodFill} for a route from the
+ * cat to the border. If there is none, the fewest blocks that open one are
+ * removed, which can leave the board slightly below its target density.
+ *
+ * <p>The same seed always gives the same board. An instance reuses its
+ * working arrays between boards and is not thread-safe.
+ */
+public class BoardGenerator {
+    public static final double DEFAULT_DENSITY = 0.125;
+    public static final int DEFAULT_CLUSTER_SIZE = 5;
+    public static final double DEFAULT_SPACING = 4;
+    public static final int CAT_CLEARANCE = 2;
+    /** Cells per terrain patch. */
+    public static final int TERRAIN_PATCH = 12;
+    private static final int DISC_ATTEMPTS = 4;
+    /** Samples per r^2 of area that the scanline sweep yields, roughly. */
+    private static final double DISC_PACKING = 0.7;
+
+    private final double density;
+    private final int clusterSize;
+    private final double spacing;
+
+    private int[] mark = new int[0];
+    private int stamp = 0;
+    private int[] frontier = new int[64];
+    private int[] centers = new int[64];
+    private double[] sampleX = new double[64], sampleY = new double[64];
+    private int[] discGrid = new int[0];
+    private int[] parent = new int[0];
+    private final int[] neighbors = new int[6];
+    private final BitFloodFill flood = new BitFloodFill();
+    private final IntRingBuffer queue = new IntRingBuffer(64);
+    private final IntRingBuffer nextQueue = new IntRingBuffer(64);
+    private int carved;
+
+    public BoardGenerator() {
+        this(DEFAULT_DENSITY);
+    }
+
+    public BoardGenerator(double density) {
+        this(density, DEFAULT_CLUSTER_SIZE, DEFAULT_SPACING);
+    }
+
+    /**
+     * @param density     fraction of the cells to block
+     * @param clusterSize blocks per cluster before the top-up
+     * @param spacing     minimum distance between cluster centers, in cells
+     */
+    public BoardGenerator(double density, int clusterSize, double spacing) {
+        if (density < 0 || density >= 1) throw new IllegalArgumentException("Invalid density " + density);
+        if (clusterSize <= 0) throw new IllegalArgumentException("Invalid cluster size " + clusterSize);
+        if (spacing <= 0) throw new IllegalArgumentException("Invalid spacing " + spacing);
+        this.density = density;
+        this.clusterSize = clusterSize;
+        this.spacing = spacing;
+    }
+
+    /** A new board with the cat in the middle and obstacles generated from {@code seed}. */
+    public HexBoard generate(int rows, int cols, long seed) {
+        HexBoard board = new HexBoard(rows, cols);
+        board.setCat(board.index(rows / 2, cols / 2));
+        generate(board, seed);
+        return board;
+    }
+
+    /** Adds obstacles to a board that already holds the cat. */
+    public void generate(HexBoard board, long seed) {
+        int cat = board.getCat();
+        if (cat < 0) throw new IllegalArgumentException("Board has no cat");
+        SplittableRandom rand = new SplittableRandom(seed);
+        int n = board.size();
+        if (mark.length < n) mark = new int[n];
+
+        // Stamp the cat's clearance as reserved
+        int reserved = nextStamp();
+        int catI = board.row(cat), catJ = board.col(cat);
+        int clearance = 0;
+        for (int i = Math.max(0, catI - CAT_CLEARANCE); i <= Math.min(board.getRows() - 1, catI + CAT_CLEARANCE); i++) {
+            for (int j = Math.max(0, catJ - CAT_CLEARANCE); j <= Math.min(board.getCols() - 1, catJ + CAT_CLEARANCE); j++) {
+                if (StrategyUtils.hexDistance(i, j, catI, catJ) <= CAT_CLEARANCE) {
+                    mark[board.index(i, j)] = reserved;
+                    if (!board.isBlocked(i, j)) clearance++;
+                }
+            }
+        }
+
+        int target = Math.min((int) Math.round(density * n), n - clearance);
+        int missing = target - board.getBlockedCount();
+        if (missing > 0) {
+            int clusters = Math.max(1, missing / clusterSize);
+            int centerCount = sampleCenters(board, rand, clusters);
+            for (int c = 0; c < centerCount && missing > 0; c++) {
+                int share = missing / (centerCount - c);
+                missing -= growCluster(board, rand, centers[c], share, reserved);
+            }
+            if (missing > 0) topUp(board, rand, missing, reserved);
+        }
+
+        carved = hasEscape(board) ? 0 : carveEscape(board);
+    }
+
+    /**
+     * Lays random patches of non-open terrain over about {@code coverage} of
+     * the board, each patch one type grown from a random cell. Blocked cells
+     * get terrain too, so it is still there if they are reopened.
+     */
+    public void generateTerrain(HexBoard board, long seed, double coverage) {
+        if (coverage < 0 || coverage > 1) throw new IllegalArgumentException("Invalid coverage " + coverage);
+        SplittableRandom rand = new SplittableRandom(seed);
+        int n = board.size();
+        if (mark.length < n) mark = new int[n];
+        Terrain[] types = Terrain.values();
+        int missing = (int) Math.round(coverage * n);
+        // Seeds landing on terrain are skipped, so cap the tries rather than loop on a covered board
+        for (int tries = 0; missing > 0 && tries < n; tries++) {
+            int center = rand.nextInt(n);
+            if (board.getTerrain(center) != Terrain.OPEN) continue;
+            Terrain type = types[1 + rand.nextInt(types.length - 1)];
+            missing -= growPatch(board, rand, center, Math.min(missing, TERRAIN_PATCH), type);
+        }
+    }
+
+    /** Blocks removed by the last {@link #generate} call to open an escape route. */
+    public int getCarvedCount() {
+        return carved;
+    }
+
+    /**
+     * Poisson-disc sampling over the (column, row) plane: a background grid of
+     * cells {@code r / sqrt(2)} wide holds at most one sample each, and the grid
+     * is swept in scanline order throwing a few darts per cell. Every pair of
+     * samples stays at least {@code r} apart, and the sweep touches memory in
+     * order. The radius is chosen so the sweep yields about {@code wanted}
+     * points, but never below the configured spacing. Fills {@link #centers}
+     * and returns how many there are, at most {@code wanted}.
+     */
+    private int sampleCenters(HexBoard board, SplittableRandom rand, int wanted) {
+        int rows = board.getRows(), cols = board.getCols();
+        double r = Math.max(spacing, Math.sqrt(DISC_PACKING * rows * cols / wanted));
+        double cellSize = r / Math.sqrt(2);
+        int gw = (int) Math.ceil(cols / cellSize), gh = (int) Math.ceil(rows / cellSize);
+        if (discGrid.length < gw * gh) discGrid = new int[gw * gh];
+        Arrays.fill(discGrid, 0, gw * gh, -1);
+
+        int count = 0;
+        for (int gy = 0; gy < gh; gy++) {
+            for (int gx = 0; gx < gw; gx++) {
+                for (int attempt = 0; attempt < DISC_ATTEMPTS; attempt++) {
+                    double x = (gx + rand.nextDouble()) * cellSize, y = (gy + rand.nextDouble()) * cellSize;
+                    if (x >= cols || y >= rows || !isFarEnough(x, y, gx, gy, gw, gh, r)) continue;
+                    addSample(count, x, y);
+                    discGrid[gy * gw + gx] = count++;
+                    break;
+                }
+            }
+        }
+
+        // Selection sampling keeps a uniform subset in sweep order, so the
+        // clusters are grown in memory order too
+        int taken = Math.min(wanted, count);
+        if (centers.length < taken) centers = new int[taken];
+        int chosen = 0;
+        for (int k = 0; k < count && chosen < taken; k++) {
+            if (rand.nextInt(count - k) < taken - chosen) {
+                centers[chosen++] = board.index(Math.min(rows - 1, (int) sampleY[k]), Math.min(cols - 1, (int) sampleX[k]));
+            }
+        }
+        return taken;
+    }
+
+    private void addSample(int k, double x, double y) {
+        if (k == sampleX.length) {
+            sampleX = Arrays.copyOf(sampleX, k << 1);
+            sampleY = Arrays.copyOf(sampleY, k << 1);
+        }
+        sampleX[k] = x;
+        sampleY[k] = y;
+    }
+
+    private boolean isFarEnough(double x, double y, int gx, int gy, int gw, int gh, double r) {
+        if (discGrid[gy * gw + gx] >= 0) return false;
+        for (int yy = Math.max(0, gy - 2); yy <= Math.min(gh - 1, gy + 2); yy++) {
+            for (int xx = Math.max(0, gx - 2); xx <= Math.min(gw - 1, gx + 2); xx++) {
+                int other = discGrid[yy * gw + xx];
+                if (other < 0) continue;
+                double dx = sampleX[other] - x, dy = sampleY[other] - y;
+                if (dx * dx + dy * dy < r * r) return false;
+            }
+        }
+        return true;
+    }
+
+    /** Grows a random blob of up to {@code size} blocks from {@code center}; returns how many were placed. */
+    private int growCluster(HexBoard board, SplittableRandom rand, int center, int size, int reserved) {
+        int queued = nextStamp();
+        int frontierSize = 0, placed = 0;
+        if (mark[center] != reserved && !board.isBlocked(center)) {
+            mark[center] = queued;
+            frontier[frontierSize++] = center;
+        }
+        while (frontierSize > 0 && placed < size) {
+            int k = rand.nextInt(frontierSize);
+            int cell = frontier[k];
+            frontier[k] = frontier[--frontierSize];
+            board.setBlocked(cell, true);
+            placed++;
+
+            int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+            for (int d = 0; d < count; d++) {
+                int next = neighbors[d];
+                if (mark[next] == reserved || mark[next] == queued || board.isBlocked(next)) continue;
+                mark[next] = queued;
+                if (frontierSize == frontier.length) frontier = Arrays.copyOf(frontier, frontierSize << 1);
+                frontier[frontierSize++] = next;
+            }
+        }
+        return placed;
+    }
+
+    /** Like {@link #growCluster}, but paints {@code type} over open ground instead of blocking. */
+    private int growPatch(HexBoard board, SplittableRandom rand, int center, int size, Terrain type) {
+        int queued = nextStamp();
+        int frontierSize = 0, placed = 0;
+        mark[center] = queued;
+        frontier[frontierSize++] = center;
+        while (frontierSize > 0 && placed < size) {
+            int k = rand.nextInt(frontierSize);
+            int cell = frontier[k];
+            frontier[k] = frontier[--frontierSize];
+            board.setTerrain(cell, type);
+            placed++;
+
+            int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+            for (int d = 0; d < count; d++) {
+                int next = neighbors[d];
+                if (mark[next] == queued || board.getTerrain(next) != Terrain.OPEN) continue;
+                mark[next] = queued;
+                if (frontierSize == frontier.length) frontier = Arrays.copyOf(frontier, frontierSize << 1);
+                frontier[frontierSize++] = next;
+            }
+        }
+        return placed;
+    }
+
+    /** Blocks exactly {@code missing} of the remaining eligible cells, uniformly, in one pass. */
+    private void topUp(HexBoard board, SplittableRandom rand, int missing, int reserved) {
+        int eligible = 0;
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (mark[cell] != reserved && !board.isBlocked(cell)) eligible++;
+        }
+        for (int cell = 0; cell < board.size() && missing > 0; cell++) {
+            if (mark[cell] == reserved || board.isBlocked(cell)) continue;
+            if (rand.nextInt(eligible) < missing) {
+                board.setBlocked(cell, true);
+                missing--;
+            }
+            eligible--;
+        }
+    }
+
+    private boolean hasEscape(HexBoard board) {
+        return flood.canEscape(board, board.getCat());
+    }
+
+    /**
+     * 0-1 BFS from the cat where stepping onto a blocked cell costs 1, run one
+     * cost level at a time; unblocks the cheapest route to the border.
+     */
+    private int carveEscape(HexBoard board) {
+        int n = board.size();
+        if (parent.length < n) parent = new int[n];
+        int seen = nextStamp();
+        int cat = board.getCat();
+        queue.clear();
+        nextQueue.clear();
+        mark[cat] = seen;
+        parent[cat] = -1;
+        queue.add(cat);
+
+        IntRingBuffer current = queue, next = nextQueue;
+        int end = -1;
+        while (end < 0) {
+            while (!current.isEmpty() && end < 0) {
+                int cell = current.poll();
+                if (board.isAtBorder(cell)) {
+                    end = cell;
+                    break;
+                }
+                int count = StrategyUtils.getNeighbors(board, cell, neighbors);
+                for (int d = 0; d < count; d++) {
+                    int nb = neighbors[d];
+                    if (mark[nb] == seen) continue;
+                    mark[nb] = seen;
+                    parent[nb] = cell;
+                    (board.isBlocked(nb) ? next : current).add(nb);
+                }
+            }
+            IntRingBuffer t = current;
+            current = next;
+            next = t;
+        }
+
+        int opened = 0;
+        for (int cell = end; cell != -1; cell = parent[cell]) {
+            if (board.isBlocked(cell)) {
+                board.setBlocked(cell, false);
+                opened++;
+            }
+        }
+        return opened;
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+}
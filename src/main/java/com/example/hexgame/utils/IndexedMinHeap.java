@@ -0,0 +1,119 @@
+package com.example.hexgame.utils;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over the items {@code 0..capacity-1} with a long key per
+ * item. Tracks each item's slot so keys can be changed or items removed in
+ * O(log n), which the incremental searches need.
+ */
+public class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] pos;
+    private final long[] keys;
+    private int size = 0;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public boolean contains(int item) {
+        return pos[item] >= 0;
+    }
+
+    /** Key of a queued item. */
+    public long keyOf(int item) {
+        return keys[item];
+    }
+
+    /** Inserts {@code item} or moves it to {@code key} if it is already queued. */
+    public void put(int item, long key) {
+        int k = pos[item];
+        if (k < 0) {
+            k = size++;
+            heap[k] = item;
+            pos[item] = k;
+            keys[item] = key;
+            siftUp(k);
+        } else {
+            long old = keys[item];
+            keys[item] = key;
+            if (key < old) siftUp(k);
+            else siftDown(k);
+        }
+    }
+
+    public void remove(int item) {
+        int k = pos[item];
+        if (k < 0) return;
+        pos[item] = -1;
+        int last = heap[--size];
+        if (k == size) return;
+        heap[k] = last;
+        pos[last] = k;
+        siftUp(k);
+        siftDown(pos[last]);
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    public long peekKey() {
+        return keys[heap[0]];
+    }
+
+    public int poll() {
+        int top = heap[0];
+        remove(top);
+        return top;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (int k = 0; k < size; k++) pos[heap[k]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int k) {
+        int item = heap[k];
+        long key = keys[item];
+        while (k > 0) {
+            int p = (k - 1) >>> 1;
+            int parent = heap[p];
+            if (keys[parent] <= key) break;
+            heap[k] = parent;
+            pos[parent] = k;
+            k = p;
+        }
+        heap[k] = item;
+        pos[item] = k;
+    }
+
+    private void siftDown(int k) {
+        int item = heap[k];
+        long key = keys[item];
+        int half = size >>> 1;
+        while (k < half) {
+            int c = (k << 1) + 1;
+            if (c + 1 < size && keys[heap[c + 1]] < keys[heap[c]]) c++;
+            int child = heap[c];
+            if (key <= keys[child]) break;
+            heap[k] = child;
+            pos[child] = k;
+            k = c;
+        }
+        heap[k] = item;
+        pos[item] = k;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hexgame.utils;
+
+import java.util.Arrays;
+
+/**
+ * Monotone priority queue of ints (Dial's buckets) for integer keys that are
+ * never below the smallest key still queued and at most {@code maxStep} above
+ * it. Keys index a ring of buckets, so push and poll take constant time.
+ * Within one key the value pushed last comes out first, which makes A* prefer
+ * the deepest of several equally promising cells.
+ */
+public class IntBucketQueue {
+    private final int mask;
+    private final int[][] buckets;
+    private final int[] sizes;
+    private int base, size;
+    private long pushCount = 0;
+
+    public IntBucketQueue(int maxStep) {
+        if (maxStep < 1) throw new IllegalArgumentException("Invalid step " + maxStep);
+        int span = Integer.highestOneBit(maxStep) << 1;
+        this.mask = span - 1;
+        this.buckets = new int[span][8];
+        this.sizes = new int[span];
+    }
+
+    public void push(int key, int value) {
+        if (key < base || key - base > mask) {
+            if (size > 0) throw new IllegalArgumentException("Key " + key + " outside [" + base + ", " + (base + mask) + "]");
+            // Only an empty queue may move its window; inside it, the last key polled stays the floor
+            base = key;
+        }
+        pushCount++;
+        int b = key & mask;
+        if (sizes[b] == buckets[b].length) buckets[b] = Arrays.copyOf(buckets[b], sizes[b] << 1);
+        buckets[b][sizes[b]++] = value;
+        size++;
+    }
+
+    /** Smallest key queued; the queue must not be empty. */
+    public int peekKey() {
+        while (sizes[base & mask] == 0) base++;
+        return base;
+    }
+
+    public int poll() {
+        int b = peekKey() & mask;
+        size--;
+        return buckets[b][--sizes[b]];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Pushes since the queue was created; {@link #clear} does not reset it. */
+    public long getPushCount() {
+        return pushCount;
+    }
+
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        size = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.hexgame.utils;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of (priority, value) int pairs packed into longs, so pushes
+ * and polls never box. Equal priorities come out in ascending value order.
+ */
+public class IntMinHeap {
+    private long[] heap;
+    private int size = 0;
+    private long pushCount = 0;
+
+    public IntMinHeap(int initialCapacity) {
+        heap = new long[Math.max(2, initialCapacity)];
+    }
+
+    public void push(int priority, int value) {
+        pushCount++;
+        if (size == heap.length) heap = Arrays.copyOf(heap, size << 1);
+        long entry = ((long) priority << 32) | (value & 0xFFFFFFFFL);
+        int k = size++;
+        while (k > 0) {
+            int p = (k - 1) >>> 1;
+            if (heap[p] <= entry) break;
+            heap[k] = heap[p];
+            k = p;
+        }
+        heap[k] = entry;
+    }
+
+    public int peekPriority() {
+        return (int) (heap[0] >> 32);
+    }
+
+    public int peekValue() {
+        return (int) heap[0];
+    }
+
+    /** Removes the minimum entry and returns its value. */
+    public int poll() {
+        long top = heap[0];
+        long last = heap[--size];
+        int k = 0, half = size >>> 1;
+        while (k < half) {
+            int c = (k << 1) + 1;
+            if (c + 1 < size && heap[c + 1] < heap[c]) c++;
+            if (last <= heap[c]) break;
+            heap[k] = heap[c];
+            k = c;
+        }
+        heap[k] = last;
+        return (int) top;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Pushes since the heap was created; {@link #clear} does not reset it. */
+    public long getPushCount() {
+        return pushCount;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hexgame.utils;
+
+/**
+ * Growable FIFO of primitive ints backed by a power-of-two ring.
+ */
+public class IntRingBuffer {
+    private int[] items;
+    private int head = 0, tail = 0;
+
+    public IntRingBuffer(int initialCapacity) {
+        items = new int[Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1];
+    }
+
+    public void add(int value) {
+        items[tail] = value;
+        tail = (tail + 1) & (items.length - 1);
+        if (tail == head) grow();
+    }
+
+    public int poll() {
+        int value = items[head];
+        head = (head + 1) & (items.length - 1);
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return (tail - head) & (items.length - 1);
+    }
+
+    public void clear() {
+        head = tail = 0;
+    }
+
+    private void grow() {
+        int[] bigger = new int[items.length << 1];
+        int firstPart = items.length - head;
+        System.arraycopy(items, head, bigger, 0, firstPart);
+        System.arraycopy(items, 0, bigger, firstPart, head);
+        head = 0;
+        tail = items.length;
+        items = bigger;
+    }
+}
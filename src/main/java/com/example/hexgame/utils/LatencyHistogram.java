@@ -0,0 +1,96 @@
+package com.example.hexgame.utils;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of non-negative values such as nanosecond timings.
+ * Every power of two is split into 32 linear buckets, so a percentile is
+ * reported within about 3% of the true value while recording stays one array
+ * increment. Not thread-safe; keep one per thread and {@link #merge} them.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) << SUB_BITS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count, sum;
+    private long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[bucket(value)]++;
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int b = 0; b < BUCKETS; b++) counts[b] += other.counts[b];
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        count = sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /** Upper edge of the bucket holding the {@code percentile}-th value, capped at the maximum. */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank) return Math.min(max, upperEdge(b));
+        }
+        return max;
+    }
+
+    /** One-line summary with values divided by {@code scale} (1000 turns nanoseconds into microseconds). */
+    public String format(double scale) {
+        return String.format("n=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f",
+                count, getMean() / scale,
+                getValueAtPercentile(50) / scale, getValueAtPercentile(90) / scale,
+                getValueAtPercentile(99) / scale, getMax() / scale);
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & (SUB_COUNT - 1));
+    }
+
+    private static long upperEdge(int bucket) {
+        int shift = (bucket >>> SUB_BITS) - 1;
+        if (shift < 0) return bucket;
+        long lower = (long) (SUB_COUNT + (bucket & (SUB_COUNT - 1))) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.hexgame.utils;
+
+import com.example.hexgame.model.HexBoard;
+
+import java.util.Random;
+
+/**
+ * The cluster-based obstacle layout used by the game, operating on a headless board.
+ */
+public class ObstaclePlacer {
+    public static final int CLUSTER_COUNT = 3;
+    public static final int OBSTACLES_PER_CLUSTER = 5;
+    public static final int MIN_OBSTACLES = 15;
+    private static final int PADDING = 2;
+    private static final int CENTER_ATTEMPTS = 100;
+
+    public static void placeObstacles(HexBoard board, Random rand) {
+        placeObstacles(board, rand, MIN_OBSTACLES);
+    }
+
+    public static void placeObstacles(HexBoard board, Random rand, int minObstacles) {
+        int rowNum = board.getRows(), colNum = board.getCols();
+        int cat = board.getCat();
+        int catI = cat < 0 ? -1 : board.row(cat);
+        int catJ = cat < 0 ? -1 : board.col(cat);
+
+        // Generate cluster centers
+        int[] centerR = new int[CLUSTER_COUNT];
+        int[] centerC = new int[CLUSTER_COUNT];
+        for (int k = 0; k < CLUSTER_COUNT; k++) {
+            int r, c, attempts = 0;
+            // Earlier centers can leave no well-spaced spot, so spacing is dropped after a while
+            do {
+                r = PADDING + rand.nextInt(rowNum - 2 * PADDING);
+                c = PADDING + rand.nextInt(colNum - 2 * PADDING);
+            } while (isNearCat(r, c, catI, catJ)
+                    || (++attempts < CENTER_ATTEMPTS && isNearExistingCluster(r, c, centerR, centerC, k)));
+            centerR[k] = r;
+            centerC[k] = c;
+        }
+
+        // Place obstacles around centers
+        for (int k = 0; k < CLUSTER_COUNT; k++) {
+            placeCluster(board, centerR[k], centerC[k], OBSTACLES_PER_CLUSTER, rand, catI, catJ);
+        }
+
+        // Place additional obstacles if needed
+        int placed = board.getBlockedCount();
+        while (placed < minObstacles) {
+            int r = rand.nextInt(rowNum), c = rand.nextInt(colNum);
+            int cell = board.index(r, c);
+            if (!board.isBlocked(cell) && !isNearCat(r, c, catI, catJ)) {
+                board.setBlocked(cell, true);
+                placed++;
+            }
+        }
+    }
+
+    private static void placeCluster(HexBoard board, int centerR, int centerC, int count, Random rand,
+                                     int catI, int catJ) {
+        int placed = 0;
+        int attempts = 0;
+
+        while (placed < count && attempts < 50) {
+            int r = centerR + rand.nextInt(5) - 2;
+            int c = centerC + rand.nextInt(5) - 2;
+
+            if (r >= 0 && r < board.getRows() && c >= 0 && c < board.getCols() &&
+                    !board.isBlocked(r, c) && !isNearCat(r, c, catI, catJ)) {
+                board.setBlocked(board.index(r, c), true);
+                placed++;
+            }
+            attempts++;
+        }
+    }
+
+    private static boolean isNearExistingCluster(int r, int c, int[] centerR, int[] centerC, int count) {
+        for (int k = 0; k < count; k++) {
+            if (Math.abs(r - centerR[k]) < 4 && Math.abs(c - centerC[k]) < 4) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNearCat(int i, int j, int catI, int catJ) {
+        if (catI < 0) return false;
+        int catDist = Math.max(Math.abs(i - catI), Math.abs(j - catJ));
+        return catDist <= 2;
+    }
+}
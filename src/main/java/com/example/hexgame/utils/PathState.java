@@ -2,90 +2,157 @@ package com.example.hexgame.utils;
 
 import com.example.hexgame.algorithms.BFSStrategy;
 import com.example.hexgame.algorithms.PathfindingStrategy;
+import com.example.hexgame.metrics.Metrics;
+import com.example.hexgame.metrics.OperationStats;
+import com.example.hexgame.model.HexBoard;
 import com.example.hexgame.model.Tile;
 
 import java.util.*;
 
+/**
+ * Caches the active strategy's path per start cell. An entry stays valid
+ * while none of its cells gets blocked and no cell anywhere is reopened:
+ * blocking a cell off the path cannot make the path longer or invalid.
+ * Entries are evicted least-recently-used beyond the capacity.
+ */
 public class PathState {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final OperationStats UPDATE_PATH = Metrics.stats("PathState.updatePath");
+
+    private final HexBoard board;
     private final Tile[][] grid;
-    private final int ROWNUM, COLNUM;
-    private final Map<String, Map<Tile, List<Tile>>> pathCache = new HashMap<>();
-    private final Map<Tile, List<Tile>> neighborCache = new HashMap<>();
+    private final int capacity;
+    private final Map<Integer, CachedPath> pathCache;
     public PathfindingStrategy activeStrategy;
 
-    public PathState(Tile[][] grid, int rowNum, int colNum) {
+    private long hits, misses, evictions, invalidations;
+
+    public PathState(HexBoard board) {
+        this(board, null, DEFAULT_CAPACITY);
+    }
+
+    public PathState(HexBoard board, Tile[][] grid) {
+        this(board, grid, DEFAULT_CAPACITY);
+    }
+
+    public PathState(HexBoard board, Tile[][] grid, int capacity) {
+        this.board = board;
         this.grid = grid;
-        this.ROWNUM = rowNum;
-        this.COLNUM = colNum;
-        this.activeStrategy = new BFSStrategy();
-        if (grid[0][0] != null) {
-            precomputeNeighbors();
-        }
+        this.capacity = capacity;
+        this.pathCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedPath> eldest) {
+                if (size() <= PathState.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+        this.activeStrategy = Metrics.instrument(new BFSStrategy());
     }
 
     public void setStrategy(PathfindingStrategy strategy) {
-        this.activeStrategy = strategy;
+        this.activeStrategy = Metrics.instrument(strategy);
         pathCache.clear();
     }
 
-    private void precomputeNeighbors() {
-        for (int i = 0; i < ROWNUM; i++) {
-            for (int j = 0; j < COLNUM; j++) {
-                Tile tile = grid[i][j];
-                neighborCache.put(tile, computeNeighbors(tile));
-            }
-        }
+    public void updatePath(Tile start) {
+        if (start == null) return;
+        updatePath(start.getIndex());
+    }
+
+    /**
+     * The path from {@code start}, searching again only if the cached one was
+     * invalidated. The caller gets its own copy; changing it leaves the cache
+     * alone.
+     */
+    public int[] updatePath(int start) {
+        return cachedPath(start).clone();
+    }
+
+    /**
+     * The cell after {@code start} on its path, read from the cache without
+     * copying the path; {@code start} itself on the border, -1 if trapped.
+     */
+    public int nextStep(int start) {
+        int[] path = cachedPath(start);
+        return path.length == 0 ? -1 : path[Math.min(1, path.length - 1)];
     }
 
-    private List<Tile> computeNeighbors(Tile tile) {
-        List<Tile> neighbors = new ArrayList<>(6);
-        int parity = tile.i % 2;
-        int[][] dirs = parity == 0 ?
-                new int[][]{{-1,0},{1,0},{0,-1},{0,1},{-1,-1},{1,-1}} :
-                new int[][]{{-1,0},{1,0},{0,-1},{0,1},{-1,1},{1,1}};
+    /** The cache's own array; never hand it out. */
+    private int[] cachedPath(int start) {
+        if (!Metrics.ENABLED) return lookup(start);
+        long hitsBefore = hits;
+        long allocated = Metrics.allocatedBytes();
+        long begin = System.nanoTime();
+        int[] path = lookup(start);
+        long nanos = System.nanoTime() - begin;
+        UPDATE_PATH.record(nanos, 0, 0, Metrics.allocatedSince(allocated), hits != hitsBefore);
+        return path;
+    }
 
-        for (int[] d : dirs) {
-            int ni = tile.i + d[0];
-            int nj = tile.j + d[1];
-            if (ni >= 0 && ni < ROWNUM && nj >= 0 && nj < COLNUM) {
-                neighbors.add(grid[ni][nj]);
+    private int[] lookup(int start) {
+        CachedPath cached = pathCache.get(start);
+        if (cached != null) {
+            if (isValid(cached)) {
+                hits++;
+                return cached.path;
             }
+            invalidations++;
         }
-        return neighbors;
+
+        misses++;
+        int[] path = activeStrategy.findPathOnly(board, start);
+        pathCache.put(start, new CachedPath(path, board.getVersion(), board.getUnblockVersion()));
+        return path;
     }
 
-    public List<Tile> getNeighbors(Tile tile) {
-        if (tile == null) return new ArrayList<>();
-        return neighborCache.getOrDefault(tile, new ArrayList<>());
+    private boolean isValid(CachedPath cached) {
+        if (cached.version == board.getVersion()) return true;
+        if (cached.unblockVersion != board.getUnblockVersion()) return false;
+        for (int cell : cached.path) {
+            if (board.isBlocked(cell)) return false;
+        }
+        // Still valid: skip the path scan until the board changes again
+        cached.version = board.getVersion();
+        return true;
     }
 
-    public void updatePath(Tile start) {
-        if (start == null) return;
+    /** The path as tiles; only for a state built with a tile grid. */
+    public List<Tile> getPath(Tile start) {
+        if (grid == null) throw new IllegalStateException("No tile grid; use updatePath(int) instead");
+        if (start == null) return new ArrayList<>();
+        return StrategyUtils.toTiles(grid, cachedPath(start.getIndex()));
+    }
 
-        String strategyKey = activeStrategy.getClass().getSimpleName();
-        if (!pathCache.containsKey(strategyKey)) {
-            pathCache.put(strategyKey, new HashMap<>());
-        }
+    public long getHits() {
+        return hits;
+    }
 
-        Map<Tile, List<Tile>> strategyCache = pathCache.get(strategyKey);
+    public long getMisses() {
+        return misses;
+    }
 
-        if (!strategyCache.containsKey(start) || gridChanged(start)) {
-            strategyCache.put(start, activeStrategy.findPath(grid, start, ROWNUM, COLNUM).path);
-        }
+    public long getEvictions() {
+        return evictions;
     }
 
-    private boolean gridChanged(Tile start) {
-        for (Tile neighbor : getNeighbors(start)) {
-            if (neighbor.stateChanged) return true;
-        }
-        return false;
+    public long getInvalidations() {
+        return invalidations;
     }
 
-    public List<Tile> getPath(Tile start) {
-        String strategyKey = activeStrategy.getClass().getSimpleName();
-        if (pathCache.containsKey(strategyKey)) {
-            return pathCache.get(strategyKey).getOrDefault(start, new ArrayList<>());
+    public int getCachedPathCount() {
+        return pathCache.size();
+    }
+
+    private static class CachedPath {
+        final int[] path;
+        final int unblockVersion;
+        int version;
+
+        CachedPath(int[] path, int version, int unblockVersion) {
+            this.path = path;
+            this.version = version;
+            this.unblockVersion = unblockVersion;
         }
-        return new ArrayList<>();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.example.hexgame.utils;
 
+import com.example.hexgame.algorithms.BoardPathResult;
+import com.example.hexgame.algorithms.PathfindingResult;
+import com.example.hexgame.model.HexBoard;
 import com.example.hexgame.model.Tile;
 
 import java.util.*;
@@ -28,24 +31,74 @@ public class StrategyUtils {
         return neighbors;
     }
 
+    /** Writes the neighbors of {@code cell} into {@code out} (length 6) and returns how many there are. */
+    public static int getNeighbors(HexBoard board, int cell, int[] out) {
+        return board.getAdjacency().get(cell, out);
+    }
+
+    /** The (row, column) offsets of a row's neighbors. The arrays are shared; do not modify them. */
     public static int[][] getDirections(int row) {
-        return (row % 2 == 0) ?
-                new int[][]{{-1,0},{1,0},{0,-1},{0,1},{-1,-1},{1,-1}} :
-                new int[][]{{-1,0},{1,0},{0,-1},{0,1},{-1,1},{1,1}};
+        return DIR_CACHE[row & 1];
+    }
+
+    /**
+     * Axial q coordinate of the odd-row-shifted offset cell {@code (row, col)};
+     * the axial r coordinate is the row itself, and the third cube coordinate
+     * is {@code -q - r}. In axial coordinates the six neighbors are fixed
+     * offsets and distances need no parity cases.
+     */
+    public static int axialQ(int row, int col) {
+        return col - ((row - (row & 1)) >> 1);
+    }
+
+    /** Column of the offset cell at axial {@code (q, row)}. */
+    public static int offsetCol(int q, int row) {
+        return q + ((row - (row & 1)) >> 1);
+    }
+
+    /** Hex distance between two axial coordinates: the largest cube coordinate difference. */
+    public static int axialDistance(int q1, int r1, int q2, int r2) {
+        int dq = q1 - q2, dr = r1 - r2;
+        return Math.max(Math.max(Math.abs(dq), Math.abs(dr)), Math.abs(dq + dr));
+    }
+
+    /** Hex distance between two cells of the odd-row-shifted offset layout. */
+    public static int hexDistance(int i1, int j1, int i2, int j2) {
+        return axialDistance(axialQ(i1, j1), i1, axialQ(i2, j2), i2);
+    }
+
+    /** Terrain cost of walking {@code path}: every cell after the first costs its step cost. */
+    public static int pathCost(HexBoard board, int[] path) {
+        int total = 0;
+        for (int k = 1; k < path.length; k++) total += board.getStepCost(path[k]);
+        return total;
     }
 
     public static boolean isAtBorder(Tile t, int rowNum, int colNum) {
         return t.i == 0 || t.i == rowNum - 1 || t.j == 0 || t.j == colNum - 1;
     }
 
-    public static List<Tile> reconstructPath(Tile end, Map<Tile, Tile> parent) {
-        List<Tile> path = new ArrayList<>();
-        Tile current = end;
-        while (current != null) {
-            path.add(current);
-            current = parent.get(current);
+    public static PathfindingResult toTileResult(Tile[][] grid, BoardPathResult result) {
+        return new PathfindingResult(toTiles(grid, result.visitedOrder), toTiles(grid, result.path));
+    }
+
+    public static List<Tile> toTiles(Tile[][] grid, int[] cells) {
+        int colNum = grid[0].length;
+        List<Tile> tiles = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            tiles.add(grid[cell / colNum][cell % colNum]);
+        }
+        return tiles;
+    }
+
+    public static int[] reconstructPath(int end, int[] parent) {
+        int length = 0;
+        for (int current = end; current != -1; current = parent[current]) length++;
+
+        int[] path = new int[length];
+        for (int current = end; current != -1; current = parent[current]) {
+            path[--length] = current;
         }
-        Collections.reverse(path);
         return path;
     }
 }
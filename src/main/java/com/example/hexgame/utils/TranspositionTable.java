@@ -0,0 +1,73 @@
+package com.example.hexgame.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed-size, lock-free table from 64-bit position hashes to 56-bit payloads.
+ * Entries are stored as {@code (key ^ data, data)} pairs, so a read that races
+ * with a write fails the key check instead of returning a torn entry. Each
+ * bucket has a depth-preferred slot and an always-replace slot.
+ *
+ * <p>Safe to share between threads; concurrent writers may overwrite each other.
+ */
+public class TranspositionTable {
+    public static final long MISS = -1L;
+    public static final long MAX_PAYLOAD = (1L << 56) - 1;
+
+    private static final long OCCUPIED = 1L << 63;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] table;
+    private final int bucketMask;
+
+    /** A table of {@code 2^bits} buckets, 32 bytes each. */
+    public TranspositionTable(int bits) {
+        table = new long[4 << bits];
+        bucketMask = (1 << bits) - 1;
+    }
+
+    /** The payload stored for {@code key}, or {@link #MISS}. */
+    public long get(long key) {
+        long entry = probe(key);
+        return entry == 0 ? MISS : entry & MAX_PAYLOAD;
+    }
+
+    /** Search depth stored with {@code key}, or -1 when absent. */
+    public int getDepth(long key) {
+        long entry = probe(key);
+        return entry == 0 ? -1 : (int) (entry >>> 56) & 0x7F;
+    }
+
+    public void put(long key, long payload, int depth) {
+        if (payload < 0 || payload > MAX_PAYLOAD) throw new IllegalArgumentException("Payload out of range");
+        long data = OCCUPIED | ((long) Math.min(Math.max(depth, 0), 127) << 56) | payload;
+        int base = bucket(key);
+
+        long stored = (long) SLOTS.getOpaque(table, base + 1);
+        long storedKey = (long) SLOTS.getOpaque(table, base) ^ stored;
+        int storedDepth = (int) (stored >>> 56) & 0x7F;
+        int slot = stored == 0 || storedKey == key || storedDepth <= depth ? base : base + 2;
+
+        SLOTS.setOpaque(table, slot, key ^ data);
+        SLOTS.setOpaque(table, slot + 1, data);
+    }
+
+    public void clear() {
+        for (int k = 0; k < table.length; k++) SLOTS.setOpaque(table, k, 0L);
+    }
+
+    /** Raw stored word (depth in the top byte) or 0 when absent. */
+    private long probe(long key) {
+        int base = bucket(key);
+        for (int slot = base; slot < base + 4; slot += 2) {
+            long data = (long) SLOTS.getOpaque(table, slot + 1);
+            if (data != 0 && ((long) SLOTS.getOpaque(table, slot) ^ data) == key) return data;
+        }
+        return 0;
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) << 2;
+    }
+}
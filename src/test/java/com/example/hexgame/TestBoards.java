@@ -0,0 +1,111 @@
+package com.example.hexgame;
+
+import com.example.hexgame.model.HexBoard;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Random boards and a plain reference BFS for the differential tests. The
+ * reference works out neighbors from the odd-r layout itself, so it shares
+ * no code with the searches it checks.
+ */
+public final class TestBoards {
+
+    private TestBoards() {
+    }
+
+    /** Board with the cat in the middle and {@code density} of the other cells blocked. */
+    public static HexBoard random(int rows, int cols, double density, long seed) {
+        HexBoard board = new HexBoard(rows, cols);
+        SplittableRandom rand = new SplittableRandom(seed);
+        int cat = board.index(rows / 2, cols / 2);
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (cell != cat && rand.nextDouble() < density) board.setBlocked(cell, true);
+        }
+        board.setCat(cat);
+        return board;
+    }
+
+    /** Neighbors of {@code cell} on the board, blocked or not: even rows reach j - 1 and j above and below, odd rows j and j + 1. */
+    public static int[] neighbors(HexBoard board, int cell) {
+        int rows = board.getRows(), cols = board.getCols();
+        int i = cell / cols, j = cell % cols;
+        int shift = (i & 1) == 0 ? -1 : 1;
+        int[][] steps = {{0, -1}, {0, 1}, {-1, 0}, {-1, shift}, {1, 0}, {1, shift}};
+        int[] out = new int[6];
+        int count = 0;
+        for (int[] d : steps) {
+            int ni = i + d[0], nj = j + d[1];
+            if (ni >= 0 && ni < rows && nj >= 0 && nj < cols) out[count++] = ni * cols + nj;
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    /** Steps from every cell to the nearest open border cell over open cells; -1 if blocked or cut off. */
+    public static int[] borderDistances(HexBoard board) {
+        int[] dist = new int[board.size()];
+        Arrays.fill(dist, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (board.isAtBorder(cell) && !board.isBlocked(cell)) {
+                dist[cell] = 0;
+                queue.add(cell);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int cur = queue.poll();
+            for (int next : neighbors(board, cur)) {
+                if (dist[next] < 0 && !board.isBlocked(next)) {
+                    dist[next] = dist[cur] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /** Steps from {@code start} to the border, or -1 if it cannot get there. */
+    public static int escapeDistance(HexBoard board, int start) {
+        return borderDistances(board)[start];
+    }
+
+    /** Open cells reachable from {@code start}; none if it is blocked. */
+    public static boolean[] reachable(HexBoard board, int start) {
+        boolean[] seen = new boolean[board.size()];
+        if (board.isBlocked(start)) return seen;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        seen[start] = true;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int cur = queue.poll();
+            for (int next : neighbors(board, cur)) {
+                if (!seen[next] && !board.isBlocked(next)) {
+                    seen[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /** Checks that {@code path} runs from {@code start} over open neighboring cells and ends on the border. */
+    public static void assertEscapePath(HexBoard board, int start, int[] path) {
+        assertTrue(path.length > 0, "empty path");
+        assertEquals(start, path[0], "path does not start at the start");
+        for (int k = 0; k < path.length; k++) {
+            assertFalse(board.isBlocked(path[k]), "path crosses blocked cell " + path[k]);
+            if (k > 0) {
+                int prev = path[k - 1], cell = path[k];
+                assertTrue(Arrays.stream(neighbors(board, prev)).anyMatch(n -> n == cell),
+                        "step " + prev + " -> " + cell + " is not between neighbors");
+            }
+        }
+        assertTrue(board.isAtBorder(path[path.length - 1]), "path does not end on the border");
+    }
+}
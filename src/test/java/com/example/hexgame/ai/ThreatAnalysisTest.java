@@ -0,0 +1,99 @@
+package com.example.hexgame.ai;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ThreatAnalysisTest {
+
+    /** Escape distance with each cell blocked in turn, one full search per cell. */
+    private static int[] bruteForce(HexBoard board, int cat) {
+        int[] after = new int[board.size()];
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (board.isBlocked(cell) || cell == cat) {
+                after[cell] = ThreatMap.NOT_OPEN;
+                continue;
+            }
+            HexBoard copy = new HexBoard(board);
+            copy.setBlocked(cell, true);
+            after[cell] = TestBoards.escapeDistance(copy, cat);
+        }
+        return after;
+    }
+
+    @Test
+    void distancesIfBlockedMatchBlockingEachCell() {
+        try (ThreatAnalysis analysis = new ThreatAnalysis(1)) {
+            for (int seed = 0; seed < 300; seed++) {
+                int size = 5 + seed % 11;
+                HexBoard board = TestBoards.random(size, size + seed % 3, 0.15 + (seed % 5) * 0.07, seed);
+                int cat = board.getCat();
+                ThreatMap map = analysis.analyse(board, cat);
+                assertEquals(TestBoards.escapeDistance(board, cat), map.distance, "seed " + seed);
+                assertArrayEquals(bruteForce(board, cat), map.distanceIfBlocked, "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void parallelRunMatchesSequential() {
+        try (ThreatAnalysis sequential = new ThreatAnalysis(1); ThreatAnalysis parallel = new ThreatAnalysis(4)) {
+            for (int seed = 0; seed < 50; seed++) {
+                HexBoard board = TestBoards.random(31, 31, 0.3, seed);
+                ThreatMap a = sequential.analyse(board, board.getCat());
+                ThreatMap b = parallel.analyse(board, board.getCat());
+                assertArrayEquals(a.distanceIfBlocked, b.distanceIfBlocked, "seed " + seed);
+                assertArrayEquals(a.mustPass, b.mustPass, "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void mustPassCellsCarryEveryShortestEscape() {
+        try (ThreatAnalysis analysis = new ThreatAnalysis(1)) {
+            for (int seed = 0; seed < 100; seed++) {
+                HexBoard board = TestBoards.random(15, 15, 0.4, seed);
+                ThreatMap map = analysis.analyse(board, board.getCat());
+                for (int cell : map.mustPass) assertEquals(1.0, map.pathShare[cell], 1e-9, "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void movingTheCatRefreshesTheCopiedBoard() {
+        try (ThreatAnalysis analysis = new ThreatAnalysis(1)) {
+            for (int seed = 0; seed < 50; seed++) {
+                HexBoard board = TestBoards.random(15, 15, 0.3, seed);
+                analysis.analyse(board, board.getCat());
+                for (int cell : TestBoards.neighbors(board, board.getCat())) {
+                    if (board.isBlocked(cell)) continue;
+                    int version = board.getVersion();
+                    board.setCat(cell);
+                    assertEquals(version, board.getVersion());
+                    assertArrayEquals(bruteForce(board, cell), analysis.analyse(board, cell).distanceIfBlocked, "seed " + seed);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void aSharedPoolOutlivesTheAnalysis() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            HexBoard board = TestBoards.random(31, 31, 0.3, 5);
+            try (ThreatAnalysis analysis = new ThreatAnalysis(pool)) {
+                assertArrayEquals(bruteForce(board, board.getCat()), analysis.analyse(board, board.getCat()).distanceIfBlocked);
+            }
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
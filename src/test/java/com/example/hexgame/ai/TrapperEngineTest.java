@@ -0,0 +1,98 @@
+package com.example.hexgame.ai;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.TranspositionTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrapperEngineTest {
+
+    /**
+     * Corridors three rows wide, joined by gaps at alternating ends, with one
+     * exit at the far end: the escape is long but no single block traps the cat.
+     */
+    private static HexBoard serpentine(int corridors, int cols) {
+        int rows = 4 * corridors + 1;
+        HexBoard board = new HexBoard(rows, cols);
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (board.isAtBorder(cell)) board.setBlocked(cell, true);
+        }
+        for (int wall = 1; wall < corridors; wall++) {
+            int gap = wall % 2 == 1 ? cols - 4 : 1;
+            for (int j = 1; j < cols - 1; j++) {
+                if (j < gap || j >= gap + 3) board.setBlocked(board.index(4 * wall, j), true);
+            }
+        }
+        int exit = corridors % 2 == 1 ? cols - 1 : 0;
+        board.setBlocked(board.index(rows - 3, exit), false);
+        board.setCat(board.index(2, 2));
+        return board;
+    }
+
+    @Test
+    void staticScoreIsClampedBelowMateScores() {
+        assertEquals(100 * 5 - 10 * 2, TrapperEngine.staticScore(5, 2));
+        assertEquals(TrapperEngine.STATIC_LIMIT, TrapperEngine.staticScore(30_000, 2));
+        assertEquals(TrapperEngine.STATIC_LIMIT, TrapperEngine.staticScore(Integer.MAX_VALUE, 0));
+        assertEquals(-TrapperEngine.STATIC_LIMIT, TrapperEngine.staticScore(0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void longEscapesDoNotOverflowTheTable() {
+        HexBoard board = serpentine(80, 301);
+        int distance = TestBoards.escapeDistance(board, board.getCat());
+        // Unclamped, 100 * distance would no longer fit the table's value field
+        assertTrue(distance > 21_000, "distance " + distance);
+
+        // No block within reach of a shallow search traps the cat, so every line ends on a static score
+        TrapperMove move = new TrapperEngine(TrapperEngine.Mode.ALPHA_BETA, 12, 1L).chooseMove(board, 1000);
+        assertTrue(move.depth >= 1, move.toString());
+        assertEquals(TrapperEngine.STATIC_LIMIT, move.score, move.toString());
+    }
+
+    @Test
+    void findsTheBlockThatCutsOffTheOnlyCorridor() {
+        // A pocket around the cat opens into a one-cell-wide corridor to the top border
+        HexBoard board = new HexBoard(11, 11);
+        int cat = board.index(5, 5);
+        board.setCat(cat);
+        boolean[] open = new boolean[board.size()];
+        open[cat] = true;
+        for (int cell : TestBoards.neighbors(board, cat)) open[cell] = true;
+        for (int i = 0; i <= 3; i++) open[board.index(i, 5)] = true;
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (!open[cell]) board.setBlocked(cell, true);
+        }
+
+        TranspositionTable table = new TranspositionTable(12);
+        TrapperMove move = new TrapperEngine(TrapperEngine.Mode.ALPHA_BETA, table, 1L).chooseMove(board, 500);
+        // Block, the cat steps, and it is trapped two plies from the root
+        assertEquals(TrapperEngine.WIN - 2, move.score, move.toString());
+        HexBoard after = new HexBoard(board);
+        after.setBlocked(move.cell, true);
+        assertEquals(-1, TestBoards.escapeDistance(after, cat));
+
+        // A second engine on the same table reads the same result back
+        TrapperMove again = new TrapperEngine(TrapperEngine.Mode.ALPHA_BETA, table, 2L).chooseMove(board, 500);
+        assertEquals(move.score, again.score);
+    }
+
+    @Test
+    void mateScoresAreStoredRelativeToTheirPosition() {
+        // Trapped 3 plies below a node searched at ply 4: WIN - 7 from the root
+        int atPly4 = TrapperEngine.WIN - 7;
+        int stored = TrapperEngine.toTable(atPly4, 4);
+        assertEquals(TrapperEngine.WIN - 3, stored);
+        // The same position reached at ply 2 is 5 plies from the end
+        assertEquals(TrapperEngine.WIN - 5, TrapperEngine.fromTable(stored, 2));
+        assertEquals(-TrapperEngine.WIN + 5, TrapperEngine.fromTable(TrapperEngine.toTable(-TrapperEngine.WIN + 7, 4), 2));
+
+        // Static scores pass through untouched
+        int quiet = TrapperEngine.STATIC_LIMIT;
+        assertEquals(quiet, TrapperEngine.fromTable(TrapperEngine.toTable(quiet, 9), 3));
+        assertEquals(-quiet, TrapperEngine.fromTable(TrapperEngine.toTable(-quiet, 9), 3));
+    }
+}
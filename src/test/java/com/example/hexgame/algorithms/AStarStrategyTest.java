@@ -0,0 +1,41 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AStarStrategyTest {
+
+    @Test
+    void findsShortestEscapes() {
+        AStarStrategy astar = new AStarStrategy();
+        for (int seed = 0; seed < 300; seed++) {
+            HexBoard board = TestBoards.random(1 + seed % 25, 1 + seed % 31, 0.1 + (seed % 6) * 0.1, seed);
+            int[] expected = TestBoards.borderDistances(board);
+            for (int start = 0; start < board.size(); start += 1 + board.size() / 40) {
+                if (board.isBlocked(start)) continue;
+                String context = "seed " + seed + " start " + start;
+                int[] path = astar.findPath(board, start).path;
+                assertEquals(expected[start], path.length - 1, context);
+                if (path.length > 0) TestBoards.assertEscapePath(board, start, path);
+                assertEquals(expected[start], astar.findPathOnly(board, start).length - 1, context);
+                assertEquals(expected[start], astar.findDistance(board, start), context);
+            }
+        }
+    }
+
+    @Test
+    void sessionRepeatsTheSearch() {
+        AStarStrategy astar = new AStarStrategy();
+        for (int seed = 0; seed < 100; seed++) {
+            HexBoard board = TestBoards.random(21, 21, 0.35, seed);
+            int cat = board.getCat();
+            SearchSession session = astar.openSession(board, cat);
+            while (!session.isDone()) session.step(16, cell -> { });
+            assertEquals(TestBoards.escapeDistance(board, cat), session.getPath().length - 1, "seed " + seed);
+            assertEquals(astar.findPath(board, cat).getNodesExplored(), session.getExploredCount(), "seed " + seed);
+        }
+    }
+}
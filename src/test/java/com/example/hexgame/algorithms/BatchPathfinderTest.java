@@ -0,0 +1,75 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.sim.ObstaclePolicy;
+import com.example.hexgame.sim.Simulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchPathfinderTest {
+
+    private static final List<Supplier<PathfindingStrategy>> STRATEGIES = List.of(
+            BFSStrategy::new, DFSStrategy::new, AStarStrategy::new, BidirectionalBFSStrategy::new,
+            DijkstraStrategy::new, WeightedAStarStrategy::new, IncrementalPathfindingStrategy::new);
+
+    @Test
+    void mixedJobsMatchSerialSearchesInInputOrder() {
+        List<BatchPathfinder.Job> jobs = new ArrayList<>();
+        List<BoardPathResult> expected = new ArrayList<>();
+        for (int k = 0; k < 600; k++) {
+            // Board sizes vary a lot so that leaves finish out of order
+            int size = 5 + (k * 7) % 40;
+            HexBoard board = TestBoards.random(size, size + k % 3, 0.1 + (k % 5) * 0.08, k);
+            int start = board.getCat();
+            Supplier<PathfindingStrategy> strategy = STRATEGIES.get(k % STRATEGIES.size());
+            expected.add(strategy.get().findPath(board, start));
+            jobs.add(new BatchPathfinder.Job(board, start, strategy.get()));
+        }
+
+        List<BoardPathResult> results;
+        try (BatchPathfinder batch = new BatchPathfinder(4)) {
+            results = batch.findAll(jobs);
+        }
+        assertEquals(jobs.size(), results.size());
+        for (int k = 0; k < jobs.size(); k++) {
+            assertArrayEquals(expected.get(k).path, results.get(k).path, "job " + k);
+            assertArrayEquals(expected.get(k).visitedOrder, results.get(k).visitedOrder, "job " + k);
+        }
+    }
+
+    @Test
+    void emptyBatch() {
+        try (BatchPathfinder batch = new BatchPathfinder(2)) {
+            assertEquals(0, batch.findAll(List.of()).size());
+        }
+    }
+
+    @Test
+    void simulatorOpeningsDoNotDependOnThreadCount() {
+        Simulator.Config config = new Simulator.Config();
+        config.rows = 21;
+        config.cols = 21;
+        config.games = 300;
+        config.obstacles = ObstaclePolicy.scatter(0.4);
+        config.catStrategy = AStarStrategy::new;
+
+        List<BoardPathResult> serial, parallel;
+        try (Simulator simulator = new Simulator(1)) {
+            serial = simulator.openings(config);
+        }
+        try (Simulator simulator = new Simulator(4)) {
+            parallel = simulator.openings(config);
+        }
+        assertEquals(config.games, parallel.size());
+        for (int game = 0; game < config.games; game++) {
+            assertArrayEquals(serial.get(game).path, parallel.get(game).path, "game " + game);
+        }
+    }
+}
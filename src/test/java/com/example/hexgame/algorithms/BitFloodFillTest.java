@@ -0,0 +1,84 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BitFloodFillTest {
+
+    private static void assertFill(BitFloodFill flood, HexBoard board, int start, String context) {
+        boolean[] reached = TestBoards.reachable(board, start);
+        int size = 0;
+        boolean border = false;
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (!reached[cell]) continue;
+            size++;
+            border |= board.isAtBorder(cell);
+        }
+        assertEquals(border, flood.canEscape(board, start), context);
+        assertEquals(size, flood.fill(board, start), context);
+        assertEquals(border, flood.touchesBorder(), context);
+        for (int cell = 0; cell < board.size(); cell++) {
+            assertEquals(reached[cell], flood.isReached(cell), context + " cell " + cell);
+        }
+    }
+
+    /** Checks a few starts per board, from boards of {@code rows x cols} at several densities. */
+    private static void checkShape(BitFloodFill flood, int rows, int cols, int boards) {
+        for (int seed = 0; seed < boards; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            HexBoard board = TestBoards.random(rows, cols, 0.2 + (seed % 5) * 0.1, seed);
+            for (int k = 0; k < 5; k++) {
+                int start = k == 0 ? board.getCat() : rand.nextInt(board.size());
+                assertFill(flood, board, start, rows + "x" + cols + " seed " + seed + " start " + start);
+            }
+        }
+    }
+
+    @Test
+    void matchesBfsOnSingleColumnAndRowBoards() {
+        BitFloodFill flood = new BitFloodFill();
+        for (int length = 1; length <= 130; length += 3) {
+            checkShape(flood, length, 1, 10);
+            checkShape(flood, 1, length, 10);
+        }
+    }
+
+    @Test
+    void matchesBfsOnRowsWiderThanOneWord() {
+        BitFloodFill flood = new BitFloodFill();
+        for (int cols : new int[]{63, 64, 65, 127, 128, 129, 200}) {
+            for (int rows : new int[]{2, 3, 7, 30}) checkShape(flood, rows, cols, 20);
+        }
+    }
+
+    @Test
+    void matchesBfsOnDenseMazes() {
+        BitFloodFill flood = new BitFloodFill();
+        for (int seed = 0; seed < 300; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            // Around the percolation threshold regions wind across words and rows
+            HexBoard board = TestBoards.random(2 + rand.nextInt(60), 2 + rand.nextInt(150), 0.45 + rand.nextDouble() * 0.1, seed);
+            for (int k = 0; k < 5; k++) {
+                int start = rand.nextInt(board.size());
+                assertFill(flood, board, start, "seed " + seed + " start " + start);
+            }
+        }
+    }
+
+    @Test
+    void followsChangesToTheSameBoard() {
+        BitFloodFill flood = new BitFloodFill();
+        SplittableRandom rand = new SplittableRandom(7);
+        HexBoard board = TestBoards.random(20, 70, 0.4, 7);
+        for (int step = 0; step < 300; step++) {
+            int cell = rand.nextInt(board.size());
+            if (!board.isCat(cell)) board.setBlocked(cell, !board.isBlocked(cell));
+            assertFill(flood, board, board.getCat(), "step " + step);
+        }
+    }
+}
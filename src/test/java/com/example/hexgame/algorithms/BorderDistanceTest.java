@@ -0,0 +1,71 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.StrategyUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BorderDistanceTest {
+
+    /** Smallest hex distance from {@code cell} to any open border cell, checking them all. */
+    private static int nearestOpenBorder(HexBoard board, int cell) {
+        int best = BorderDistance.NONE;
+        int i = board.row(cell), j = board.col(cell);
+        for (int other = 0; other < board.size(); other++) {
+            if (!board.isAtBorder(other) || board.isBlocked(other)) continue;
+            best = Math.min(best, StrategyUtils.hexDistance(i, j, board.row(other), board.col(other)));
+        }
+        return best;
+    }
+
+    @Test
+    void matchesTheNearestOpenBorderCell() {
+        BorderDistance border = new BorderDistance();
+        for (int seed = 0; seed < 200; seed++) {
+            // Dense enough that whole stretches of the border are blocked
+            HexBoard board = TestBoards.random(1 + seed % 19, 1 + seed % 23, 0.2 + (seed % 4) * 0.2, seed);
+            border.update(board);
+            for (int cell = 0; cell < board.size(); cell++) {
+                assertEquals(nearestOpenBorder(board, cell), border.get(cell), "seed " + seed + " cell " + cell);
+            }
+        }
+    }
+
+    @Test
+    void isAdmissibleAndConsistent() {
+        BorderDistance border = new BorderDistance();
+        for (int seed = 0; seed < 100; seed++) {
+            HexBoard board = TestBoards.random(15, 21, 0.3, seed);
+            border.update(board);
+            int[] escape = TestBoards.borderDistances(board);
+            for (int cell = 0; cell < board.size(); cell++) {
+                if (escape[cell] >= 0) assertTrue(border.get(cell) <= escape[cell], "seed " + seed + " cell " + cell);
+                for (int next : TestBoards.neighbors(board, cell)) {
+                    assertTrue(Math.abs(border.get(cell) - border.get(next)) <= 1, "seed " + seed + " cell " + cell);
+                }
+            }
+        }
+    }
+
+    @Test
+    void followsBoardChanges() {
+        HexBoard board = new HexBoard(9, 9);
+        BorderDistance border = new BorderDistance();
+        border.update(board);
+        assertTrue(border.hasOpenBorder());
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (board.isAtBorder(cell)) board.setBlocked(cell, true);
+        }
+        border.update(board);
+        assertFalse(border.hasOpenBorder());
+        assertEquals(BorderDistance.NONE, border.get(board.index(4, 4)));
+
+        board.setBlocked(board.index(8, 3), false);
+        border.update(board);
+        assertEquals(nearestOpenBorder(board, board.index(4, 4)), border.get(board.index(4, 4)));
+    }
+}
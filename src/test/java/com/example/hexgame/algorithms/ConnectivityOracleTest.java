@@ -0,0 +1,84 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConnectivityOracleTest {
+
+    private static void assertRegions(ConnectivityOracle oracle, HexBoard board, String context) {
+        int n = board.size();
+        int[] region = new int[n];
+        Arrays.fill(region, -1);
+        int regions = 0;
+        for (int cell = 0; cell < n; cell++) {
+            if (board.isBlocked(cell) || region[cell] >= 0) continue;
+            boolean[] reached = TestBoards.reachable(board, cell);
+            int size = 0;
+            boolean border = false;
+            for (int other = 0; other < n; other++) {
+                if (!reached[other]) continue;
+                region[other] = regions;
+                size++;
+                border |= board.isAtBorder(other);
+            }
+            regions++;
+            for (int other = 0; other < n; other++) {
+                if (!reached[other]) continue;
+                assertEquals(size, oracle.regionSize(other), context + " size at " + other);
+                assertEquals(border, oracle.touchesBorder(other), context + " border at " + other);
+                assertEquals(oracle.regionOf(cell), oracle.regionOf(other), context + " region at " + other);
+            }
+        }
+        assertEquals(regions, oracle.getRegionCount(), context + " region count");
+        for (int cell = 0; cell < n; cell++) {
+            if (board.isBlocked(cell)) {
+                assertEquals(ConnectivityOracle.NONE, oracle.regionOf(cell), context + " blocked " + cell);
+                assertEquals(0, oracle.regionSize(cell), context + " blocked " + cell);
+            }
+        }
+    }
+
+    @Test
+    void matchesBfsAfterSplitsAndMerges() {
+        for (int seed = 0; seed < 60; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            // Dense boards, where a block often cuts a region in two or more
+            HexBoard board = TestBoards.random(4 + seed % 10, 1 + seed % 15, 0.35, seed);
+            ConnectivityOracle oracle = new ConnectivityOracle(board);
+            assertRegions(oracle, board, "seed " + seed);
+            for (int step = 0; step < 60; step++) {
+                int cell = rand.nextInt(board.size());
+                if (board.isCat(cell)) continue;
+                // Mostly blocks, so regions keep splitting
+                boolean block = rand.nextInt(4) != 0;
+                if (board.isBlocked(cell) == block) continue;
+                board.setBlocked(cell, block);
+                oracle.cellChanged(cell);
+                assertRegions(oracle, board, "seed " + seed + " step " + step);
+            }
+        }
+    }
+
+    @Test
+    void syncCatchesUpWithUnreportedChanges() {
+        for (int seed = 0; seed < 40; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            HexBoard board = TestBoards.random(12, 12, 0.3, seed);
+            ConnectivityOracle oracle = new ConnectivityOracle(board);
+            for (int round = 0; round < 10; round++) {
+                for (int k = 1 + rand.nextInt(5); k > 0; k--) {
+                    int cell = rand.nextInt(board.size());
+                    if (!board.isCat(cell)) board.setBlocked(cell, !board.isBlocked(cell));
+                }
+                oracle.sync();
+                assertRegions(oracle, board, "seed " + seed + " round " + round);
+            }
+        }
+    }
+}
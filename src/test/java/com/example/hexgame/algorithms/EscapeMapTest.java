@@ -0,0 +1,77 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EscapeMapTest {
+
+    private static void assertField(EscapeMap map, HexBoard board, String context) {
+        int[] expected = TestBoards.borderDistances(board);
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (board.isBlocked(cell)) continue;
+            assertEquals(expected[cell], map.distance(cell), context + " cell " + cell);
+            int[] path = map.path(cell);
+            assertEquals(expected[cell], path.length - 1, context + " path from " + cell);
+            if (expected[cell] >= 0) TestBoards.assertEscapePath(board, cell, path);
+        }
+    }
+
+    @Test
+    void matchesBfsOnRandomBoards() {
+        for (int seed = 0; seed < 100; seed++) {
+            HexBoard board = TestBoards.random(3 + seed % 17, 1 + seed % 23, 0.1 + (seed % 6) * 0.08, seed);
+            assertField(new EscapeMap(board), board, "seed " + seed);
+        }
+    }
+
+    @Test
+    void staysExactAcrossChanges() {
+        for (int seed = 0; seed < 40; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            HexBoard board = TestBoards.random(13, 17, 0.25, seed);
+            EscapeMap map = new EscapeMap(board);
+            for (int step = 0; step < 60; step++) {
+                int cell = rand.nextInt(board.size());
+                if (board.isCat(cell)) continue;
+                board.setBlocked(cell, !board.isBlocked(cell));
+                // Report most changes; the rest are picked up by sync
+                if (rand.nextInt(4) != 0) map.cellChanged(cell);
+                else map.sync();
+                assertField(map, board, "seed " + seed + " step " + step);
+            }
+        }
+    }
+
+    @Test
+    void strategyStepsTheCatAlongShortestEscapes() {
+        for (int seed = 0; seed < 30; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            GameState state = new GameState(15, 15);
+            state.setStrategy(new EscapeMapStrategy());
+            state.reset(new Random(seed));
+            HexBoard board = state.getBoard();
+            while (!state.isOver()) {
+                int before = TestBoards.escapeDistance(board, state.getCat());
+                int step = state.getCatStep();
+                if (before >= 0) {
+                    assertEquals(before, state.getCatPath().length - 1, "seed " + seed);
+                    if (before > 0) assertEquals(before - 1, TestBoards.escapeDistance(board, step), "seed " + seed);
+                } else {
+                    assertEquals(-1, step, "seed " + seed);
+                }
+                int cell;
+                do {
+                    cell = rand.nextInt(board.size());
+                } while (!state.canBlock(cell));
+                state.play(cell);
+            }
+        }
+    }
+}
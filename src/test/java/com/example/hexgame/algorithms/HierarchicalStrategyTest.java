@@ -0,0 +1,70 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalStrategyTest {
+
+    /** Paths exist exactly when BFS finds one and are valid escapes, though they may be longer. */
+    private static void assertEscape(HierarchicalStrategy hpa, HexBoard board, int start, String context) {
+        int expected = TestBoards.escapeDistance(board, start);
+        int[] path = hpa.findPath(board, start).path;
+        assertEquals(expected < 0, path.length == 0, context + " expected " + expected);
+        if (expected < 0) return;
+        TestBoards.assertEscapePath(board, start, path);
+        assertTrue(path.length - 1 >= expected, context);
+    }
+
+    @Test
+    void findsAPathExactlyWhenBfsDoes() {
+        for (int seed = 0; seed < 200; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            int clusterSize = 2 + seed % 7;
+            HexBoard board = TestBoards.random(1 + rand.nextInt(40), 1 + rand.nextInt(40), 0.2 + rand.nextDouble() * 0.35, seed);
+            HierarchicalStrategy hpa = new HierarchicalStrategy(clusterSize);
+            for (int k = 0; k < 10; k++) {
+                int start = rand.nextInt(board.size());
+                if (!board.isBlocked(start)) assertEscape(hpa, board, start, "seed " + seed + " start " + start);
+            }
+        }
+    }
+
+    @Test
+    void staysCorrectAsCellsChange() {
+        for (int seed = 0; seed < 60; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            HexBoard board = TestBoards.random(33, 29, 0.3, seed);
+            HierarchicalStrategy hpa = new HierarchicalStrategy(4 + seed % 5);
+            int cat = board.getCat();
+            for (int step = 0; step < 40; step++) {
+                // Block and reopen a few cells between queries; the graph only rebuilds dirty clusters
+                for (int k = rand.nextInt(4); k >= 0; k--) {
+                    int cell = rand.nextInt(board.size());
+                    if (cell != cat) board.setBlocked(cell, !board.isBlocked(cell));
+                }
+                assertEscape(hpa, board, cat, "seed " + seed + " step " + step);
+            }
+        }
+    }
+
+    @Test
+    void keepsCloseToTheShortestPath() {
+        HierarchicalStrategy hpa = new HierarchicalStrategy();
+        long found = 0, shortest = 0;
+        for (int seed = 0; seed < 40; seed++) {
+            HexBoard board = TestBoards.random(101, 101, 0.3, seed);
+            int expected = TestBoards.escapeDistance(board, board.getCat());
+            if (expected < 0) continue;
+            found += hpa.findDistance(board, board.getCat());
+            shortest += expected;
+        }
+        // Forcing routes through transitions costs a few percent on random boards
+        assertTrue(found <= shortest * 1.15, found + " steps against " + shortest);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncrementalPathfindingStrategyTest {
+
+    private static void assertShortest(IncrementalPathfindingStrategy strategy, HexBoard board, int start, String context) {
+        int expected = TestBoards.escapeDistance(board, start);
+        int[] path = strategy.findPath(board, start).path;
+        assertEquals(expected, path.length - 1, context);
+        if (expected >= 0) TestBoards.assertEscapePath(board, start, path);
+    }
+
+    @Test
+    void matchesBfsAfterBlocksAndUnblocks() {
+        for (int seed = 0; seed < 60; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            HexBoard board = TestBoards.random(9 + seed % 9, 11, 0.2, seed);
+            IncrementalPathfindingStrategy strategy = new IncrementalPathfindingStrategy();
+            int cat = board.getCat();
+            assertShortest(strategy, board, cat, "seed " + seed);
+
+            for (int step = 0; step < 80; step++) {
+                int cell = rand.nextInt(board.size());
+                if (cell == cat) continue;
+                board.setBlocked(cell, !board.isBlocked(cell));
+                // Report some changes and leave the rest for the bitset diff
+                if (rand.nextBoolean()) strategy.cellChanged(board, cell);
+                assertShortest(strategy, board, cat, "seed " + seed + " step " + step);
+            }
+        }
+    }
+
+    @Test
+    void followsTheCatAlongItsPath() {
+        for (int seed = 0; seed < 60; seed++) {
+            SplittableRandom rand = new SplittableRandom(seed);
+            HexBoard board = TestBoards.random(15, 15, 0.15, seed);
+            IncrementalPathfindingStrategy strategy = new IncrementalPathfindingStrategy();
+            int cat = board.getCat();
+            while (!board.isAtBorder(cat)) {
+                int[] path = strategy.findPath(board, cat).path;
+                assertEquals(TestBoards.escapeDistance(board, cat), path.length - 1, "seed " + seed);
+                if (path.length == 0) break;
+                // Block a cell on the path ahead now and then, as a trapper would
+                if (path.length > 2 && rand.nextInt(3) == 0) {
+                    int cell = path[1 + rand.nextInt(path.length - 2)];
+                    board.setBlocked(cell, true);
+                    strategy.cellChanged(board, cell);
+                    continue;
+                }
+                cat = path[1];
+                board.setCat(cat);
+            }
+        }
+    }
+}
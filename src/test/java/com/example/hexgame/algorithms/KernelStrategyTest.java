@@ -0,0 +1,115 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.BoardGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KernelStrategyTest {
+    private static final KernelStrategy[] STRATEGIES = {
+            new BFSStrategy(), new DFSStrategy(), new AStarStrategy(), new DijkstraStrategy(), new WeightedAStarStrategy()
+    };
+
+    @Test
+    void leanQueriesAgreeWithFindPath() {
+        for (int seed = 0; seed < 150; seed++) {
+            HexBoard board = TestBoards.random(1 + seed % 19, 1 + seed % 23, 0.1 + (seed % 6) * 0.1, seed);
+            for (KernelStrategy strategy : STRATEGIES) {
+                for (int start = 0; start < board.size(); start += 1 + board.size() / 10) {
+                    if (board.isBlocked(start)) continue;
+                    String context = strategy.getClass().getSimpleName() + " seed " + seed + " start " + start;
+                    int[] path = strategy.findPath(board, start).path;
+                    assertArrayEquals(path, strategy.findPathOnly(board, start), context);
+                    assertEquals(path.length - 1, strategy.findDistance(board, start), context);
+                    int next = path.length == 0 ? -1 : path[Math.min(1, path.length - 1)];
+                    assertEquals(next, strategy.findNextStep(board, start), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void breadthFirstStrategiesFindShortestEscapes() {
+        KernelStrategy[] shortest = {new BFSStrategy(), new AStarStrategy(), new DijkstraStrategy(), new WeightedAStarStrategy()};
+        for (int seed = 0; seed < 100; seed++) {
+            HexBoard board = TestBoards.random(25, 25, 0.35, seed);
+            int expected = TestBoards.escapeDistance(board, board.getCat());
+            for (KernelStrategy strategy : shortest) {
+                int[] path = strategy.findPath(board, board.getCat()).path;
+                assertEquals(expected, path.length - 1, strategy.getClass().getSimpleName() + " seed " + seed);
+                if (path.length > 0) TestBoards.assertEscapePath(board, board.getCat(), path);
+            }
+            // DFS gives no length guarantee, only a valid escape when there is one
+            int[] path = new DFSStrategy().findPath(board, board.getCat()).path;
+            assertEquals(expected < 0, path.length == 0, "DFS seed " + seed);
+            if (path.length > 0) TestBoards.assertEscapePath(board, board.getCat(), path);
+        }
+    }
+
+    /** Cheapest cost of reaching the border from {@code start}, by a plain Dijkstra; -1 when walled in. */
+    private static int cheapestEscape(HexBoard board, int start) {
+        int[] cost = new int[board.size()];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        PriorityQueue<int[]> open = new PriorityQueue<>(Comparator.comparingInt((int[] e) -> e[0]));
+        cost[start] = 0;
+        open.add(new int[]{0, start});
+        while (!open.isEmpty()) {
+            int[] e = open.poll();
+            int cell = e[1];
+            if (e[0] != cost[cell]) continue;
+            if (board.isAtBorder(cell)) return e[0];
+            for (int next : TestBoards.neighbors(board, cell)) {
+                if (board.isBlocked(next)) continue;
+                int c = e[0] + board.getStepCost(next);
+                if (c < cost[next]) {
+                    cost[next] = c;
+                    open.add(new int[]{c, next});
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int pathCost(HexBoard board, int[] path) {
+        int cost = 0;
+        for (int k = 1; k < path.length; k++) cost += board.getStepCost(path[k]);
+        return path.length == 0 ? -1 : cost;
+    }
+
+    @Test
+    void costAwareStrategiesFindCheapestEscapesOverTerrain() {
+        BoardGenerator generator = new BoardGenerator();
+        KernelStrategy[] cheapest = {new DijkstraStrategy(), new WeightedAStarStrategy()};
+        for (int seed = 0; seed < 100; seed++) {
+            HexBoard board = TestBoards.random(25, 25, 0.1 + (seed % 4) * 0.1, seed);
+            generator.generateTerrain(board, seed, 0.2 + (seed % 3) * 0.2);
+            assertTrue(board.hasTerrain(), "seed " + seed);
+            int cat = board.getCat();
+            int expected = cheapestEscape(board, cat);
+            for (KernelStrategy strategy : cheapest) {
+                int[] path = strategy.findPath(board, cat).path;
+                assertEquals(expected, pathCost(board, path), strategy.getClass().getSimpleName() + " seed " + seed);
+                if (path.length > 0) TestBoards.assertEscapePath(board, cat, path);
+            }
+
+            // Levelled ground makes every step cost one again
+            int version = board.getVersion();
+            board.clearTerrain();
+            assertFalse(board.hasTerrain());
+            assertTrue(board.getVersion() > version);
+            assertEquals(TestBoards.escapeDistance(board, cat), cheapestEscape(board, cat), "seed " + seed);
+            for (KernelStrategy strategy : cheapest) {
+                assertEquals(TestBoards.escapeDistance(board, cat), strategy.findDistance(board, cat), "seed " + seed);
+            }
+        }
+    }
+}
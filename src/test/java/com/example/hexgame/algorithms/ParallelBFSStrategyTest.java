@@ -0,0 +1,84 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelBFSStrategyTest {
+
+    /** Default tuning, then bottom-up from the second level on, then a switch at every level; all parallel. */
+    private static final ParallelBFSStrategy[] VARIANTS = {
+            new ParallelBFSStrategy(),
+            new ParallelBFSStrategy(Integer.MAX_VALUE, Integer.MAX_VALUE, 0),
+            new ParallelBFSStrategy(Integer.MAX_VALUE, 1, 0),
+    };
+
+    private static void assertSameAsBfs(HexBoard board, String context) {
+        int start = board.getCat();
+        BoardPathResult expected = new BFSStrategy().findPath(board, start);
+        for (int v = 0; v < VARIANTS.length; v++) {
+            BoardPathResult actual = VARIANTS[v].findPath(board, start);
+            String where = context + " variant " + v;
+            assertEquals(expected.path.length, actual.path.length, where);
+            if (actual.path.length > 0) {
+                TestBoards.assertEscapePath(board, start, actual.path);
+            } else {
+                // Trapped: both searches visit exactly the cat's region
+                assertEquals(cells(expected.visitedOrder), cells(actual.visitedOrder), where);
+            }
+        }
+    }
+
+    private static Set<Integer> cells(int[] order) {
+        Set<Integer> set = new HashSet<>();
+        for (int cell : order) set.add(cell);
+        assertEquals(order.length, set.size(), "cell explored twice");
+        return set;
+    }
+
+    @Test
+    void matchesBfsOnRandomBoards() {
+        for (int seed = 0; seed < 150; seed++) {
+            HexBoard board = TestBoards.random(3 + seed % 31, 2 + seed % 37, 0.05 + (seed % 9) * 0.06, seed);
+            assertSameAsBfs(board, "seed " + seed);
+        }
+    }
+
+    @Test
+    void matchesBfsOnLargeBoardsAcrossTheThreshold() {
+        // The border is walled off except for one corner, so the search covers
+        // most of the board before it escapes, in levels big enough to go parallel
+        for (int seed = 0; seed < 4; seed++) {
+            HexBoard board = TestBoards.random(181 + seed, 197 - seed, 0.2 * seed, seed);
+            for (int cell = 1; cell < board.size(); cell++) {
+                if (board.isAtBorder(cell)) board.setBlocked(cell, true);
+            }
+            board.setBlocked(0, false);
+            assertSameAsBfs(board, "walled seed " + seed);
+
+            board.setBlocked(0, true);
+            assertSameAsBfs(board, "sealed seed " + seed);
+        }
+    }
+
+    @Test
+    void catOnTheBorder() {
+        HexBoard board = new HexBoard(9, 9);
+        board.setCat(board.index(0, 4));
+        for (ParallelBFSStrategy variant : VARIANTS) {
+            assertEquals(1, variant.findPath(board, board.getCat()).path.length);
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveRatios() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBFSStrategy(0, 24, 4096));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBFSStrategy(14, 0, 4096));
+    }
+}
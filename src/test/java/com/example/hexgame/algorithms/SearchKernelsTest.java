@@ -0,0 +1,72 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.metrics.Metrics;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SearchKernelsTest {
+
+    @Test
+    void bfsReachesANearestBorderCell() {
+        SearchScratch scratch = new SearchScratch();
+        for (int seed = 0; seed < 200; seed++) {
+            HexBoard board = TestBoards.random(1 + seed % 21, 1 + seed % 27, 0.15 + (seed % 5) * 0.1, seed);
+            int cat = board.getCat();
+            int end = SearchKernels.bfs(board, cat, scratch);
+            int expected = TestBoards.escapeDistance(board, cat);
+            assertEquals(expected, scratch.pathLength(end) - 1, "seed " + seed);
+            if (end < 0) continue;
+            int[] path = new int[scratch.pathLength(end)];
+            scratch.copyPath(end, path);
+            TestBoards.assertEscapePath(board, cat, path);
+        }
+    }
+
+    @Test
+    void advanceStopsAtItsBudgetAndResumes() {
+        HexBoard board = TestBoards.random(41, 41, 0.25, 2);
+        int cat = board.getCat();
+        SearchScratch whole = new SearchScratch();
+        SearchScratch stepped = new SearchScratch();
+        assertThrows(IllegalStateException.class, () -> SearchKernels.advance(board, stepped, 1));
+        for (SearchKernels.Kind kind : SearchKernels.Kind.values()) {
+            int expected = SearchKernels.run(kind, board, cat, whole);
+            SearchKernels.begin(kind, board, cat, stepped);
+            int end;
+            int slices = 0;
+            while ((end = SearchKernels.advance(board, stepped, 3)) == SearchKernels.RUNNING) slices++;
+            assertTrue(slices > 0, kind.name());
+            assertEquals(expected, end, kind.name());
+            assertEquals(whole.pathLength(expected), stepped.pathLength(end), kind.name());
+        }
+    }
+
+    @Test
+    void leanQueriesAllocateNothingOnceWarm() {
+        assumeTrue(Metrics.allocatedBytes() >= 0, "JVM cannot count allocations");
+        HexBoard board = TestBoards.random(101, 101, 0.3, 1);
+        int cat = board.getCat();
+        PathfindingStrategy[] strategies = {new BFSStrategy(), new DFSStrategy(), new AStarStrategy()};
+        for (PathfindingStrategy strategy : strategies) {
+            // The first calls size the thread's scratch to the board
+            for (int k = 0; k < 3; k++) {
+                strategy.findDistance(board, cat);
+                strategy.findNextStep(board, cat);
+            }
+            long before = Metrics.allocatedBytes();
+            for (int k = 0; k < 100; k++) {
+                strategy.findDistance(board, cat);
+                strategy.findNextStep(board, cat);
+            }
+            long allocated = Metrics.allocatedSince(before);
+            // Leaves room for the counter's own bookkeeping, far below one board-sized array
+            assertTrue(allocated < 1024, strategy.getClass().getSimpleName() + " allocated " + allocated + " bytes");
+        }
+    }
+}
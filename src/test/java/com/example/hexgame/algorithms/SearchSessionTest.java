@@ -0,0 +1,106 @@
+package com.example.hexgame.algorithms;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import com.example.hexgame.utils.BoardGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchSessionTest {
+    private static final PathfindingStrategy[] STRATEGIES = {
+            new BFSStrategy(), new DFSStrategy(), new AStarStrategy(), new DijkstraStrategy(),
+            new WeightedAStarStrategy(), new HierarchicalStrategy()
+    };
+
+    /** Steps {@code session} to the end in slices of {@code slice} and returns the order it reported. */
+    private static int[] drain(SearchSession session, int slice, int capacity) {
+        int[] order = new int[capacity];
+        int[] size = {0};
+        while (!session.isDone()) {
+            int before = size[0];
+            int count = session.step(slice, cell -> order[size[0]++] = cell);
+            assertEquals(size[0] - before, count);
+            assertTrue(count <= slice);
+        }
+        return Arrays.copyOf(order, size[0]);
+    }
+
+    @Test
+    void steppingRepeatsFindPath() {
+        BoardGenerator generator = new BoardGenerator();
+        for (int seed = 0; seed < 60; seed++) {
+            HexBoard board = TestBoards.random(5 + seed % 23, 5 + seed % 19, 0.1 + (seed % 5) * 0.1, seed);
+            if (seed % 2 == 1) generator.generateTerrain(board, seed, 0.4);
+            int cat = board.getCat();
+            for (PathfindingStrategy strategy : STRATEGIES) {
+                String context = strategy.getClass().getSimpleName() + " seed " + seed;
+                BoardPathResult expected = strategy.findPath(board, cat);
+                for (int slice : new int[]{1, 7, 1000}) {
+                    SearchSession session = strategy.openSession(board, cat);
+                    assertArrayEquals(expected.visitedOrder, drain(session, slice, expected.visitedOrder.length + slice), context + " slice " + slice);
+                    assertArrayEquals(expected.path, session.getPath(), context + " slice " + slice);
+                    assertEquals(expected.getNodesExplored(), session.getExploredCount(), context);
+                    assertEquals(0, session.step(5, cell -> { }), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void interleavedSessionsAndQueriesStayIndependent() {
+        HexBoard board = TestBoards.random(41, 41, 0.3, 11);
+        int cat = board.getCat();
+        BFSStrategy bfs = new BFSStrategy();
+        AStarStrategy astar = new AStarStrategy();
+        BoardPathResult bfsResult = bfs.findPath(board, cat);
+        BoardPathResult astarResult = astar.findPath(board, cat);
+
+        SearchSession first = bfs.openSession(board, cat);
+        SearchSession second = astar.openSession(board, cat);
+        int[] firstOrder = new int[bfsResult.visitedOrder.length];
+        int[] secondOrder = new int[astarResult.visitedOrder.length];
+        int[] a = {0}, b = {0};
+        while (!first.isDone() || !second.isDone()) {
+            first.step(3, cell -> firstOrder[a[0]++] = cell);
+            // One-shot searches on the thread's own scratch between steps
+            bfs.findDistance(board, board.index(1, 1));
+            second.step(2, cell -> secondOrder[b[0]++] = cell);
+        }
+        assertArrayEquals(bfsResult.visitedOrder, firstOrder);
+        assertArrayEquals(bfsResult.path, first.getPath());
+        assertArrayEquals(astarResult.visitedOrder, secondOrder);
+        assertArrayEquals(astarResult.path, second.getPath());
+    }
+
+    @Test
+    void cancelledSessionsEndWithoutAPath() {
+        HexBoard board = TestBoards.random(31, 31, 0.2, 3);
+        SearchSession session = new BFSStrategy().openSession(board, board.getCat());
+        session.step(5, cell -> { });
+        session.cancel();
+        assertTrue(session.isDone());
+        assertEquals(0, session.getPath().length);
+        assertEquals(5, session.getExploredCount());
+        assertEquals(0, session.step(5, cell -> { }));
+        session.cancel();
+    }
+
+    @Test
+    void aBoardChangeEndsTheSession() {
+        HexBoard board = TestBoards.random(31, 31, 0.2, 4);
+        for (PathfindingStrategy strategy : new PathfindingStrategy[]{new DFSStrategy(), new WeightedAStarStrategy()}) {
+            SearchSession session = strategy.openSession(board, board.getCat());
+            session.step(3, cell -> { });
+            int cell = board.index(0, 0);
+            board.setBlocked(cell, !board.isBlocked(cell));
+            assertEquals(0, session.step(100, c -> { }));
+            assertTrue(session.isDone());
+            assertEquals(0, session.getPath().length);
+        }
+    }
+}
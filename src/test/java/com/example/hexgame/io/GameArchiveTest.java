@@ -0,0 +1,104 @@
+package com.example.hexgame.io;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.GameState;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GameArchiveTest {
+
+    /** A random trapper against the default cat, with the board hash after every turn kept in {@code hashes}. */
+    private static GameRecord play(long seed, List<Long> hashes) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        HexBoard board = TestBoards.random(3 + rand.nextInt(20), 1 + rand.nextInt(30), 0.2, seed);
+        GameState state = new GameState(board);
+        long[] initial = GameRecord.blockedWords(board);
+        int startCat = board.getCat();
+        hashes.add(board.getHash());
+
+        int[] blocks = new int[board.size()], cats = new int[board.size()];
+        int turns = 0;
+        while (!state.isOver()) {
+            int cell = rand.nextInt(board.size());
+            if (!state.play(cell)) continue;
+            blocks[turns] = cell;
+            cats[turns++] = board.getCat();
+            hashes.add(board.getHash());
+        }
+        return new GameRecord(board.getRows(), board.getCols(), seed, "bfs", state.getStatus(), startCat,
+                initial, Arrays.copyOf(blocks, turns), Arrays.copyOf(cats, turns));
+    }
+
+    private static void assertSameRecord(GameRecord expected, GameRecord actual) {
+        assertEquals(expected.rows, actual.rows);
+        assertEquals(expected.cols, actual.cols);
+        assertEquals(expected.seed, actual.seed);
+        assertEquals(expected.strategy, actual.strategy);
+        assertEquals(expected.outcome, actual.outcome);
+        assertEquals(expected.startCat, actual.startCat);
+        assertArrayEquals(expected.initialBlocked, actual.initialBlocked);
+        assertArrayEquals(expected.blocks, actual.blocks);
+        assertArrayEquals(expected.cats, actual.cats);
+    }
+
+    @Test
+    void codecRoundTrips() {
+        for (int seed = 0; seed < 300; seed++) {
+            GameRecord record = play(seed, new ArrayList<>());
+            ByteBuffer buffer = ByteBuffer.allocate(GameCodec.maxSize(record));
+            GameCodec.encode(record, buffer);
+            buffer.flip();
+            assertSameRecord(record, GameCodec.decode(buffer));
+            assertFalse(buffer.hasRemaining(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void archiveRoundTrips(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        List<GameRecord> records = new ArrayList<>();
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            for (int seed = 0; seed < 500; seed++) {
+                GameRecord record = play(seed, new ArrayList<>());
+                records.add(record);
+                writer.append(record);
+            }
+        }
+        try (GameArchiveReader reader = new GameArchiveReader(file)) {
+            assertEquals(records.size(), reader.size());
+            // Out of order, to exercise the index
+            for (int k = records.size() - 1; k >= 0; k -= 3) {
+                assertSameRecord(records.get(k), reader.get(k));
+                assertSameRecord(records.get(k), GameCodec.decode(reader.slice(k)));
+            }
+        }
+    }
+
+    @Test
+    void replayReachesEveryRecordedPosition() {
+        for (int seed = 0; seed < 100; seed++) {
+            List<Long> hashes = new ArrayList<>();
+            GameRecord record = play(seed, hashes);
+            GameReplay replay = new GameReplay(record);
+            SplittableRandom rand = new SplittableRandom(seed);
+            for (int k = 0; k < 20; k++) {
+                int turn = rand.nextInt(record.getTurnCount() + 1);
+                assertEquals((long) hashes.get(turn), replay.seek(turn).getHash(), "seed " + seed + " turn " + turn);
+            }
+            assertEquals((long) hashes.get(0), replay.seek(0).getHash(), "seed " + seed);
+        }
+    }
+}
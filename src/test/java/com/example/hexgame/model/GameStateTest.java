@@ -0,0 +1,110 @@
+package com.example.hexgame.model;
+
+import com.example.hexgame.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameStateTest {
+
+    private static long[] blocked(HexBoard board) {
+        long[] words = new long[board.getWordCount()];
+        for (int w = 0; w < words.length; w++) words[w] = board.getBlockedWord(w);
+        return words;
+    }
+
+    @Test
+    void resetCentresTheCatAndLeavesItAWayOut() {
+        GameState state = new GameState(11, 13);
+        state.reset(new Random(4));
+        HexBoard board = state.getBoard();
+        assertEquals(board.index(5, 6), state.getCat());
+        assertEquals(GameState.Status.PLAYING, state.getStatus());
+        assertEquals(0, state.getMoves());
+        assertTrue(board.getBlockedCount() > 0);
+        assertTrue(TestBoards.escapeDistance(board, state.getCat()) > 0);
+
+        GameState again = new GameState(11, 13);
+        again.reset(new Random(4));
+        assertArrayEquals(blocked(board), blocked(again.getBoard()));
+    }
+
+    @Test
+    void onlyOpenCellsOtherThanTheCatCanBeBlocked() {
+        GameState state = new GameState(9, 9);
+        state.reset();
+        int cat = state.getCat();
+        assertFalse(state.canBlock(cat));
+        assertFalse(state.canBlock(-1));
+        assertFalse(state.canBlock(81));
+        assertTrue(state.block(0));
+        assertFalse(state.canBlock(0));
+        assertFalse(state.play(0));
+        assertEquals(1, state.getMoves());
+    }
+
+    @Test
+    void theCatStepsAlongAShortestEscape() {
+        for (int seed = 0; seed < 40; seed++) {
+            GameState state = new GameState(13, 13);
+            state.reset(new Random(seed));
+            HexBoard board = state.getBoard();
+            Random rand = new Random(seed);
+            while (!state.isOver()) {
+                int cell;
+                do {
+                    cell = rand.nextInt(board.size());
+                } while (!state.canBlock(cell));
+                int before = state.getCat();
+                state.block(cell);
+                int distance = TestBoards.escapeDistance(board, before);
+                state.moveCat();
+
+                if (distance < 0) {
+                    assertEquals(GameState.Status.TRAPPED, state.getStatus(), "seed " + seed);
+                    assertEquals(before, state.getCat(), "seed " + seed);
+                } else {
+                    assertEquals(distance - 1, TestBoards.escapeDistance(board, state.getCat()), "seed " + seed);
+                    assertEquals(distance == 1, state.getStatus() == GameState.Status.ESCAPED, "seed " + seed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void aWalledInCatIsTrappedWithoutMoving() {
+        GameState state = new GameState(9, 9);
+        state.reset();
+        int cat = state.getCat();
+        for (int cell : TestBoards.neighbors(state.getBoard(), cat)) assertTrue(state.block(cell));
+        assertEquals(-1, state.getCatStep());
+        assertEquals(0, state.getCatPath().length);
+
+        state.moveCat();
+        assertEquals(GameState.Status.TRAPPED, state.getStatus());
+        assertEquals(cat, state.getCat());
+        assertEquals(6, state.getMoves());
+    }
+
+    @Test
+    void nothingHappensOnceTheGameIsOver() {
+        HexBoard board = new HexBoard(3, 3);
+        GameState state = new GameState(board);
+        state.reset();
+        // Every neighbor of the centre of a 3x3 board is on the border
+        assertTrue(state.play(0));
+        assertEquals(GameState.Status.ESCAPED, state.getStatus());
+        int cat = state.getCat();
+        assertTrue(board.isAtBorder(cat));
+        assertFalse(state.canBlock(2));
+        assertFalse(state.play(2));
+        state.moveCat();
+        assertEquals(cat, state.getCat());
+        assertEquals(1, state.getMoves());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.hexgame.model;
+
+import com.example.hexgame.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HexAdjacencyTest {
+
+    private static void assertNeighbors(HexBoard board, int cell, int[] out) {
+        int count = board.getAdjacency().get(cell, out);
+        int[] actual = Arrays.copyOf(out, count), expected = TestBoards.neighbors(board, cell);
+        Arrays.sort(actual);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, actual, board.getRows() + "x" + board.getCols() + " cell " + cell);
+    }
+
+    @Test
+    void matchesTheOffsetLayout() {
+        int[] out = new int[6];
+        for (int rows = 1; rows <= 9; rows++) {
+            for (int cols = 1; cols <= 9; cols++) {
+                HexBoard board = new HexBoard(rows, cols);
+                for (int cell = 0; cell < board.size(); cell++) assertNeighbors(board, cell, out);
+            }
+        }
+    }
+
+    @Test
+    void buildsTheTableOnFirstLookupOnly() {
+        HexBoard board = new HexBoard(37, 41);
+        HexAdjacency adjacency = board.getAdjacency();
+        assertSame(adjacency, HexAdjacency.of(37, 41));
+        assertFalse(adjacency.isTabled());
+        adjacency.get(0, new int[6]);
+        assertTrue(adjacency.isTabled());
+    }
+
+    @Test
+    void hugeShapesComputeWithoutATable() {
+        HexBoard board = new HexBoard(2049, 2049);
+        assertTrue((long) board.size() > HexAdjacency.TABLE_LIMIT);
+        int[] out = new int[6];
+        int[] cells = {0, 1, 2048, 2049, 2050, 4097, board.size() / 2, board.size() - 2049, board.size() - 1};
+        for (int cell : cells) assertNeighbors(board, cell, out);
+        assertFalse(board.getAdjacency().isTabled());
+    }
+}
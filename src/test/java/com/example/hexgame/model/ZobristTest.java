@@ -0,0 +1,102 @@
+package com.example.hexgame.model;
+
+import com.example.hexgame.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ZobristTest {
+
+    /** The hash a board with these blocks and this cat must have, built in cell order. */
+    private static long rebuilt(HexBoard board) {
+        HexBoard fresh = new HexBoard(board.getRows(), board.getCols());
+        for (int cell = 0; cell < board.size(); cell++) {
+            if (board.isBlocked(cell)) fresh.setBlocked(cell, true);
+        }
+        fresh.setCat(board.getCat());
+        return fresh.getHash();
+    }
+
+    @Test
+    void blockAndUnblockRoundTripsRestoreTheHash() {
+        HexBoard board = TestBoards.random(13, 17, 0.3, 3);
+        long original = board.getHash();
+        SplittableRandom rand = new SplittableRandom(3);
+        int[] touched = new int[40];
+        for (int k = 0; k < touched.length; k++) {
+            int cell;
+            do {
+                cell = rand.nextInt(board.size());
+            } while (board.isCat(cell));
+            touched[k] = cell;
+            board.setBlocked(cell, !board.isBlocked(cell));
+            assertEquals(rebuilt(board), board.getHash(), "after change " + k);
+        }
+        for (int k = touched.length - 1; k >= 0; k--) {
+            board.setBlocked(touched[k], !board.isBlocked(touched[k]));
+        }
+        assertEquals(original, board.getHash());
+    }
+
+    @Test
+    void repeatedWritesOfTheSameStateDoNotChangeTheHash() {
+        HexBoard board = new HexBoard(9, 9);
+        board.setBlocked(10, true);
+        long hash = board.getHash();
+        board.setBlocked(10, true);
+        assertEquals(hash, board.getHash());
+        board.setBlocked(11, false);
+        assertEquals(hash, board.getHash());
+    }
+
+    @Test
+    void catMovesAreHashedAndUndone() {
+        HexBoard board = TestBoards.random(11, 11, 0.2, 5);
+        long withCat = board.getHash();
+        int cat = board.getCat();
+        int next = -1;
+        for (int cell : TestBoards.neighbors(board, cat)) {
+            if (!board.isBlocked(cell)) next = cell;
+        }
+
+        board.setCat(next);
+        assertNotEquals(withCat, board.getHash());
+        assertEquals(rebuilt(board), board.getHash());
+        board.setCat(cat);
+        assertEquals(withCat, board.getHash());
+
+        board.setCat(-1);
+        long noCat = board.getHash();
+        assertNotEquals(withCat, noCat);
+        board.setCat(cat);
+        assertEquals(withCat, board.getHash());
+    }
+
+    @Test
+    void copiesAndClearedBoardsAgree() {
+        HexBoard board = TestBoards.random(10, 12, 0.35, 8);
+        assertEquals(board.getHash(), new HexBoard(board).getHash());
+
+        long empty = new HexBoard(10, 12).getHash();
+        board.clear();
+        assertEquals(empty, board.getHash());
+        // Same layout on another shape hashes differently
+        assertNotEquals(empty, new HexBoard(12, 10).getHash());
+    }
+
+    @Test
+    void keysAreDistinctAcrossCellsAndFeatures() {
+        Set<Long> keys = new HashSet<>();
+        for (int cell = 0; cell < 100_000; cell++) {
+            keys.add(Zobrist.blockedKey(cell));
+            keys.add(Zobrist.catKey(cell));
+        }
+        assertEquals(200_000, keys.size());
+        assertEquals(0L, Zobrist.catKey(-1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hexgame.sim;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulatorTest {
+
+    private static Simulator.Config config(String cat, String trapper) {
+        Simulator.Config config = new Simulator.Config();
+        config.games = 400;
+        config.seed = 7;
+        config.catStrategy = SimulatorCli.parseCat(cat);
+        config.trapper = SimulatorCli.parseTrapper(trapper);
+        return config;
+    }
+
+    private static SimulationReport run(Simulator.Config config, int threads) {
+        try (Simulator simulator = new Simulator(threads)) {
+            return simulator.run(config);
+        }
+    }
+
+    @Test
+    void seededRunsDoNotDependOnThreadCount() {
+        for (String trapper : new String[]{"random", "greedy", "threat"}) {
+            Simulator.Config config = config("bfs", trapper);
+            SimulationReport serial = run(config, 1);
+            SimulationReport parallel = run(config, 3);
+            assertEquals(serial.trapped, parallel.trapped, trapper);
+            assertEquals(serial.escaped, parallel.escaped, trapper);
+            assertEquals(serial.moves, parallel.moves, trapper);
+        }
+    }
+
+    @Test
+    void everyGameIsPlayedToAnEnd() {
+        Simulator.Config config = config("astar", "greedy");
+        SimulationReport report = run(config, 2);
+        assertEquals(config.games, report.games);
+        assertEquals(report.games, report.trapped + report.escaped);
+        assertEquals(report.games, report.game.getCount());
+        assertEquals(report.games, report.setup.getCount());
+        assertEquals(report.trapper.getCount(), report.cat.getCount());
+        assertTrue(report.moves >= report.games);
+        assertEquals(2, report.threads);
+    }
+
+    @Test
+    void aSmarterTrapperTrapsMoreCats() {
+        SimulationReport random = run(config("bfs", "random"), 1);
+        SimulationReport threat = run(config("bfs", "threat"), 1);
+        assertTrue(threat.trapped > random.trapped, threat.trapped + " vs " + random.trapped);
+    }
+
+    @Test
+    void emptyAndInvalidRuns() {
+        Simulator.Config config = config("bfs", "greedy");
+        config.games = 0;
+        assertEquals(0, run(config, 1).games);
+        config.games = -1;
+        assertThrows(IllegalArgumentException.class, () -> run(config, 1));
+    }
+
+    @Test
+    void cliNamesEveryStrategyAndPolicy() {
+        for (String cat : new String[]{"bfs", "dfs", "astar", "dstar", "bidir", "parallel", "dijkstra", "wastar", "hpa", "escape"}) {
+            assertNotNull(SimulatorCli.parseCat(cat).get(), cat);
+        }
+        assertThrows(IllegalArgumentException.class, () -> SimulatorCli.parseCat("nope"));
+        assertThrows(IllegalArgumentException.class, () -> SimulatorCli.parseTrapper("nope"));
+        assertThrows(IllegalArgumentException.class, () -> SimulatorCli.parseObstacles("scatter"));
+    }
+}
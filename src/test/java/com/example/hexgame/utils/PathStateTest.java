@@ -0,0 +1,102 @@
+package com.example.hexgame.utils;
+
+import com.example.hexgame.TestBoards;
+import com.example.hexgame.model.HexBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class PathStateTest {
+
+    /** Open cell near the middle that is not on {@code path}. */
+    private static int offPath(HexBoard board, int[] path) {
+        for (int cell = board.size() / 3; cell < board.size(); cell++) {
+            if (board.isBlocked(cell) || board.isCat(cell)) continue;
+            boolean on = false;
+            for (int p : path) on |= p == cell;
+            if (!on) return cell;
+        }
+        throw new IllegalStateException("No open cell off the path");
+    }
+
+    @Test
+    void blockingOffThePathKeepsTheEntry() {
+        HexBoard board = TestBoards.random(15, 15, 0.1, 3);
+        PathState state = new PathState(board);
+        int cat = board.getCat();
+        int[] path = state.updatePath(cat);
+        board.setBlocked(offPath(board, path), true);
+        assertArrayEquals(path, state.updatePath(cat));
+        assertEquals(1, state.getHits());
+        assertEquals(1, state.getMisses());
+    }
+
+    @Test
+    void blockingOnThePathSearchesAgain() {
+        HexBoard board = TestBoards.random(15, 15, 0.1, 3);
+        PathState state = new PathState(board);
+        int cat = board.getCat();
+        int[] path = state.updatePath(cat);
+        board.setBlocked(path[1], true);
+        int[] again = state.updatePath(cat);
+        assertEquals(1, state.getInvalidations());
+        assertEquals(TestBoards.escapeDistance(board, cat), again.length - 1);
+        TestBoards.assertEscapePath(board, cat, again);
+    }
+
+    @Test
+    void unblockingAnywhereSearchesAgain() {
+        // A long way round: the only gap in a ring of blocks is far from the cat
+        HexBoard board = new HexBoard(15, 15);
+        int cat = board.index(7, 7);
+        for (int cell = 0; cell < board.size(); cell++) {
+            int i = board.row(cell), j = board.col(cell);
+            if ((i == 3 || i == 11) && j >= 3 && j <= 11 || (j == 3 || j == 11) && i >= 3 && i <= 11) {
+                board.setBlocked(cell, true);
+            }
+        }
+        board.setBlocked(board.index(3, 4), false);
+        board.setCat(cat);
+        PathState state = new PathState(board);
+        assertEquals(TestBoards.escapeDistance(board, cat), state.updatePath(cat).length - 1);
+
+        // Reopening a cell off the cached path opens a shorter way out
+        board.setBlocked(board.index(7, 11), false);
+        int[] path = state.updatePath(cat);
+        assertEquals(1, state.getInvalidations());
+        assertEquals(TestBoards.escapeDistance(board, cat), path.length - 1);
+    }
+
+    @Test
+    void callersGetTheirOwnCopy() {
+        HexBoard board = TestBoards.random(11, 11, 0.1, 5);
+        PathState state = new PathState(board);
+        int cat = board.getCat();
+        int[] first = state.updatePath(cat);
+        int[] expected = first.clone();
+        first[0] = -7;
+        int[] second = state.updatePath(cat);
+        assertNotSame(first, second);
+        assertArrayEquals(expected, second);
+        assertEquals(expected[1], state.nextStep(cat));
+    }
+
+    @Test
+    void staysExactOverRandomChanges() {
+        SplittableRandom rand = new SplittableRandom(11);
+        HexBoard board = TestBoards.random(21, 21, 0.25, 11);
+        PathState state = new PathState(board, null, 8);
+        for (int step = 0; step < 2000; step++) {
+            int cell = rand.nextInt(board.size());
+            if (!board.isCat(cell) && rand.nextInt(4) == 0) board.setBlocked(cell, !board.isBlocked(cell));
+            int start = rand.nextInt(board.size());
+            if (board.isBlocked(start)) continue;
+            assertEquals(TestBoards.escapeDistance(board, start), state.updatePath(start).length - 1, "step " + step);
+        }
+        assertEquals(8, state.getCachedPathCount());
+    }
+}
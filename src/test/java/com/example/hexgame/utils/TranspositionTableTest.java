@@ -0,0 +1,140 @@
+package com.example.hexgame.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TranspositionTableTest {
+
+    /** Keys 0, 2, 4, ... all land in bucket 0 of a table with 2 buckets. */
+    private static long sameBucket(int k) {
+        return 2L * k;
+    }
+
+    @Test
+    void storesAndProbesPayloadsAndDepths() {
+        TranspositionTable table = new TranspositionTable(10);
+        SplittableRandom rand = new SplittableRandom(1);
+        long[] keys = new long[200];
+        long[] payloads = new long[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            keys[k] = rand.nextLong();
+            payloads[k] = rand.nextLong() & TranspositionTable.MAX_PAYLOAD;
+        }
+        payloads[0] = 0;
+        payloads[1] = TranspositionTable.MAX_PAYLOAD;
+
+        for (int k = 0; k < keys.length; k++) {
+            table.put(keys[k], payloads[k], k % 128);
+            assertEquals(payloads[k], table.get(keys[k]), "key " + k);
+            assertEquals(k % 128, table.getDepth(keys[k]), "key " + k);
+        }
+        assertEquals(TranspositionTable.MISS, table.get(rand.nextLong()));
+        assertEquals(-1, table.getDepth(rand.nextLong()));
+
+        table.clear();
+        for (long key : keys) assertEquals(TranspositionTable.MISS, table.get(key));
+    }
+
+    @Test
+    void rejectsPayloadsOutOfRange() {
+        TranspositionTable table = new TranspositionTable(4);
+        assertThrows(IllegalArgumentException.class, () -> table.put(1, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.put(1, TranspositionTable.MAX_PAYLOAD + 1, 0));
+    }
+
+    @Test
+    void depthsAreClampedToSevenBits() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.put(5, 1, 500);
+        assertEquals(127, table.getDepth(5));
+        table.put(6, 1, -3);
+        assertEquals(0, table.getDepth(6));
+    }
+
+    @Test
+    void deeperEntriesKeepTheirSlotAgainstShallowerOnes() {
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = sameBucket(1), a = sameBucket(2), b = sameBucket(3), deeper = sameBucket(4);
+
+        table.put(deep, 10, 8);
+        table.put(a, 20, 3);
+        assertEquals(10, table.get(deep));
+        assertEquals(20, table.get(a));
+
+        // The shallow newcomer takes the always-replace slot, evicting the last one there
+        table.put(b, 30, 2);
+        assertEquals(10, table.get(deep));
+        assertEquals(TranspositionTable.MISS, table.get(a));
+        assertEquals(30, table.get(b));
+
+        // Updating the depth-preferred entry keeps it in place even at a lower depth
+        table.put(deep, 11, 1);
+        assertEquals(11, table.get(deep));
+        assertEquals(1, table.getDepth(deep));
+        assertEquals(30, table.get(b));
+
+        // An equal or deeper search takes the depth-preferred slot over
+        table.put(deeper, 40, 1);
+        assertEquals(TranspositionTable.MISS, table.get(deep));
+        assertEquals(40, table.get(deeper));
+        assertEquals(30, table.get(b));
+    }
+
+    @Test
+    void tornEntriesFailTheKeyCheck() throws ReflectiveOperationException {
+        TranspositionTable table = new TranspositionTable(1);
+        long first = sameBucket(1), second = sameBucket(2);
+        table.put(first, 111, 5);
+
+        // A reader that sees the data word of a second write next to the key
+        // word of the first must get a miss for both keys, not a mixed entry
+        Field field = TranspositionTable.class.getDeclaredField("table");
+        field.setAccessible(true);
+        long[] slots = (long[]) field.get(table);
+        long data = slots[1];
+        long tornData = data & ~TranspositionTable.MAX_PAYLOAD | 222;
+        slots[1] = tornData;
+        assertEquals(TranspositionTable.MISS, table.get(first));
+        assertEquals(TranspositionTable.MISS, table.get(second));
+
+        slots[1] = data;
+        assertEquals(111, table.get(first));
+    }
+
+    @Test
+    void concurrentWritersNeverExposeMixedEntries() throws InterruptedException {
+        // Every payload is a function of its key, so any mixed entry would show
+        TranspositionTable table = new TranspositionTable(2);
+        AtomicBoolean mixed = new AtomicBoolean();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom rand = new SplittableRandom(seed);
+                for (int k = 0; k < 200_000; k++) {
+                    long key = rand.nextInt(64);
+                    if (rand.nextBoolean()) {
+                        table.put(key, payloadOf(key), rand.nextInt(10));
+                    } else {
+                        long payload = table.get(key);
+                        if (payload != TranspositionTable.MISS && payload != payloadOf(key)) mixed.set(true);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertFalse(mixed.get());
+    }
+
+    private static long payloadOf(long key) {
+        return (key * 0x9E3779B97F4A7C15L) & TranspositionTable.MAX_PAYLOAD;
+    }
+}